@@ -0,0 +1,71 @@
+// k6 load test: default (dev) settings बनाम prod persistence profile, same CRUD mix पर throughput.
+//
+// Same DB और same data पर दोनों बार चलाओ, फिर http_reqs (req/s) और p95/p99 compare करो:
+//   ./mvnw spring-boot:run                                              (application.properties)
+//   EMS_DB_USER=root EMS_DB_PASSWORD=... ./mvnw spring-boot:run -Dspring-boot.run.profiles=prod
+//   k6 run -e BASE_URL=http://localhost:5000 -e TOKEN=<access token> -e MAX_ID=<सबसे बड़ी employee id> loadtest/crud-mix.js
+//
+// Mix: 60% GET by id, 20% page, 15% PATCH (If-Match), 5% create + delete.
+// हर run से पहले MySQL restart या warm-up run करो ताकि buffer pool दोनों बार same हो.
+// 304 न आए इसलिए GET पर If-None-Match नहीं भेजा जाता; PATCH पर 412 (किसी और ने पहले बदला) error नहीं गिना जाता.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:5000';
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000', 10);
+const params = { headers: { Authorization: `Bearer ${__ENV.TOKEN}`, 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    mix: {
+      executor: 'ramping-arrival-rate',
+      startRate: 100,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 500, duration: '1m' },
+        { target: 2000, duration: '3m' },
+        { target: 2000, duration: '1m' },
+      ],
+    },
+  },
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+  },
+};
+
+function randomId() {
+  return 1 + Math.floor(Math.random() * MAX_ID);
+}
+
+export default function () {
+  const r = Math.random();
+  if (r < 0.60) {
+    const res = http.get(`${BASE_URL}/api/employees/${randomId()}`, params);
+    check(res, { 'get 200 or 404': (x) => x.status === 200 || x.status === 404 });
+  } else if (r < 0.80) {
+    const res = http.get(`${BASE_URL}/api/employees/page?size=50`, params);
+    check(res, { 'page 200': (x) => x.status === 200 });
+  } else if (r < 0.95) {
+    const id = randomId();
+    const current = http.get(`${BASE_URL}/api/employees/${id}`, params);
+    if (current.status !== 200) {
+      return;
+    }
+    const res = http.patch(`${BASE_URL}/api/employees/${id}`,
+      JSON.stringify({ performance: Math.round(Math.random() * 100) / 10 }),
+      { headers: Object.assign({ 'If-Match': current.headers['Etag'] }, params.headers),
+        responseCallback: http.expectedStatuses(200, 412) });
+    check(res, { 'patch 200 or 412': (x) => x.status === 200 || x.status === 412 });
+  } else {
+    const suffix = `${__VU}-${__ITER}-${Date.now()}`;
+    const created = http.post(`${BASE_URL}/api/employees`, JSON.stringify({
+      name: `Load Test ${suffix}`, email: `loadtest-${suffix}@example.com`, department: 'IT', position: 'Tester',
+    }), params);
+    check(created, { 'create 200': (x) => x.status === 200 });
+    if (created.status === 200) {
+      http.del(`${BASE_URL}/api/employees/${created.json('id')}`, null, params);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+// k6 load test: CRUD latency जब साथ में slow reports चल रहे हों.
+//
+// दोनों modes में चलाओ और p95/p99 + error rate compare करो:
+//   EMS_VIRTUAL_THREADS=false ./mvnw spring-boot:run   (platform threads)
+//   EMS_VIRTUAL_THREADS=true  ./mvnw spring-boot:run   (virtual threads)
+//   k6 run -e BASE_URL=http://localhost:5000 -e TOKEN=<access token> loadtest/crud-vs-reports.js
+//
+// DB धीमा simulate करने के लिए MySQL पर: SET GLOBAL innodb_lock_wait_timeout ... या tc netem latency.
+// Reports पर 503 (bulkhead) expected हैं - वो error rate में नहीं गिने जाते.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:5000';
+const params = { headers: { Authorization: `Bearer ${__ENV.TOKEN}`, 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    crud: {
+      executor: 'constant-arrival-rate',
+      exec: 'crud',
+      rate: 500,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+    chatbot: {
+      executor: 'constant-arrival-rate',
+      exec: 'chatbot',
+      rate: 200,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 1000,
+    },
+    reports: {
+      executor: 'constant-vus',
+      exec: 'reports',
+      vus: 50,
+      duration: '2m',
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:crud}': ['p(99)<200'],
+    'http_req_duration{scenario:chatbot}': ['p(99)<50'],
+    'http_req_failed{scenario:crud}': ['rate<0.01'],
+  },
+};
+
+export function crud() {
+  const res = http.get(`${BASE_URL}/api/departments`, params);
+  check(res, { 'departments 200': (r) => r.status === 200 });
+  const page = http.get(`${BASE_URL}/api/employees/page?size=50`, params);
+  check(page, { 'page 200': (r) => r.status === 200 });
+}
+
+export function chatbot() {
+  const res = http.post(`${BASE_URL}/api/chatbot/send`,
+    JSON.stringify({ message: 'hi', language: 'en', role: 'EMPLOYEE' }), params);
+  check(res, { 'chatbot 200': (r) => r.status === 200 });
+}
+
+export function reports() {
+  const res = http.get(`${BASE_URL}/api/export/salaries?format=csv`, params);
+  check(res, { 'report 200 or shed': (r) => r.status === 200 || r.status === 503 });
+}
@@ -0,0 +1,10 @@
+package com.example.ems.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caches Caffeine पर हैं – size/TTL application.properties में (spring.cache.caffeine.spec)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
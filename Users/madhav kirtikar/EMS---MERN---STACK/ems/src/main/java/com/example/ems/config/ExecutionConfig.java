@@ -0,0 +1,62 @@
+package com.example.ems.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Request execution mode (spring.threads.virtual.enabled) और उससे जुड़ी limits.
+ * Virtual threads पर Tomcat threads की limit नहीं रहती, तो असली concurrency limit Hikari pool है –
+ * इसलिए reports का bulkhead pool size से छोटा होना चाहिए, वरना CRUD को connection नहीं मिलेगा.
+ */
+@Configuration
+public class ExecutionConfig implements WebMvcConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionConfig.class);
+
+    private final boolean virtualThreads;
+    private final int reportsMaxConcurrent;
+    private final Duration reportsMaxWait;
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+
+    public ExecutionConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           @Value("${app.bulkhead.reports.max-concurrent:4}") int reportsMaxConcurrent,
+                           @Value("${app.bulkhead.reports.max-wait:500ms}") Duration reportsMaxWait,
+                           MeterRegistry meterRegistry,
+                           DataSource dataSource) {
+        this.virtualThreads = virtualThreads;
+        this.reportsMaxConcurrent = reportsMaxConcurrent;
+        this.reportsMaxWait = reportsMaxWait;
+        this.meterRegistry = meterRegistry;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new ReportBulkhead(reportsMaxConcurrent, reportsMaxWait, meterRegistry))
+                .addPathPatterns("/api/export/**", "/api/aggregates/**");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void logExecutionMode() {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+        log.info("Request execution: {} threads, DB pool {} connections, report bulkhead {}",
+                virtualThreads ? "virtual" : "platform", poolSize, reportsMaxConcurrent);
+        if (poolSize > 0 && reportsMaxConcurrent >= poolSize) {
+            log.warn("app.bulkhead.reports.max-concurrent ({}) >= DB pool size ({}): reports can starve CRUD traffic",
+                    reportsMaxConcurrent, poolSize);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ems.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Startup पर dev-only persistence settings पकड़ता है (show-sql, schema auto-update, open-in-view, बिना statement
+ * cache का driver). "prod" profile में हर finding WARN है; local run पर ये settings जानबूझकर हैं तो INFO.
+ * App रोकता नहीं – सिर्फ बताता है.
+ */
+@Component
+public class PersistenceSettingsCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceSettingsCheck.class);
+
+    private static final Set<String> SCHEMA_CHANGING_DDL = Set.of("update", "create", "create-drop");
+    private static final Set<String> VERBOSE_LEVELS = Set.of("DEBUG", "TRACE", "ALL");
+
+    private final Environment env;
+
+    public PersistenceSettingsCheck(Environment env) {
+        this.env = env;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void check() {
+        List<String> findings = findings();
+        boolean prod = env.acceptsProfiles(Profiles.of("prod"));
+        for (String finding : findings) {
+            if (prod) {
+                log.warn("Dev-only persistence setting active: {}", finding);
+            } else {
+                log.info("Dev-only persistence setting active (use the prod profile in production): {}", finding);
+            }
+        }
+    }
+
+    List<String> findings() {
+        List<String> findings = new ArrayList<>();
+        if (flag("spring.jpa.show-sql", false)) {
+            findings.add("spring.jpa.show-sql=true writes every SQL statement to stdout");
+        }
+        if (flag("spring.jpa.properties.hibernate.format_sql", false)) {
+            findings.add("hibernate.format_sql=true");
+        }
+        if (flag("spring.jpa.properties.hibernate.generate_statistics", false)) {
+            findings.add("hibernate.generate_statistics=true collects statistics on every session");
+        }
+        String sqlLevel = env.getProperty("logging.level.org.hibernate.SQL", "").toUpperCase(Locale.ROOT);
+        if (VERBOSE_LEVELS.contains(sqlLevel)) {
+            findings.add("logging.level.org.hibernate.SQL=" + sqlLevel);
+        }
+        String ddl = env.getProperty("spring.jpa.hibernate.ddl-auto", "none").trim().toLowerCase(Locale.ROOT);
+        if (SCHEMA_CHANGING_DDL.contains(ddl)) {
+            findings.add("spring.jpa.hibernate.ddl-auto=" + ddl + " compares/changes the schema at every startup");
+        }
+        // Boot का default true है
+        if (flag("spring.jpa.open-in-view", true)) {
+            findings.add("spring.jpa.open-in-view=true keeps a DB connection until the response is written");
+        }
+        if (!driverFlag("cachePrepStmts")) {
+            findings.add("MySQL prepared statement cache is off (cachePrepStmts)");
+        }
+        if (!driverFlag("rewriteBatchedStatements")) {
+            findings.add("JDBC batches are sent row by row (rewriteBatchedStatements)");
+        }
+        return findings;
+    }
+
+    private boolean flag(String key, boolean defaultValue) {
+        return env.getProperty(key, Boolean.class, defaultValue);
+    }
+
+    // Connector/J property hikari data-source-properties में हो सकती है या URL query में
+    private boolean driverFlag(String name) {
+        if (flag("spring.datasource.hikari.data-source-properties." + name, false)) {
+            return true;
+        }
+        String url = env.getProperty("spring.datasource.url", "");
+        return url.contains(name + "=true");
+    }
+}
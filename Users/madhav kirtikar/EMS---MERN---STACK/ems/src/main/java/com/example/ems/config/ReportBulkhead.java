@@ -0,0 +1,63 @@
+package com.example.ems.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report/export endpoints एक साथ ज़्यादा से ज़्यादा maxConcurrent चलते हैं, ताकि धीमी report queries
+ * पूरा connection pool न पकड़ लें और CRUD के लिए connections बचे रहें.
+ * Slot maxWait में न मिले तो 503 + Retry-After. Streaming (async) responses में slot stream पूरा होने पर छूटता है.
+ */
+public class ReportBulkhead implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = ReportBulkhead.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    public ReportBulkhead(int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+        meterRegistry.gauge("ems.bulkhead.reports.available", permits, Semaphore::availablePermits);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
+        // Async dispatch (StreamingResponseBody पूरा होने के बाद) पहले से permit रखता है
+        if (request.getAttribute(PERMIT) != null) {
+            return true;
+        }
+        if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many report requests, retry later");
+            return false;
+        }
+        request.setAttribute(PERMIT, Boolean.TRUE);
+        return true;
+    }
+
+    // Async शुरू होने पर afterCompletion नहीं, ये चलता है – permit async dispatch तक रखा रहता है
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT) != null) {
+            request.removeAttribute(PERMIT);
+            permits.release();
+        }
+    }
+}
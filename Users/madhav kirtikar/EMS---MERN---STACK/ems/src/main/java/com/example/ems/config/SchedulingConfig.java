@@ -0,0 +1,10 @@
+package com.example.ems.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled jobs (SSE heartbeats वगैरह)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,24 +1,46 @@
  package com.example.ems.config;
 
+import com.example.ems.security.AuthenticationCache;
+import com.example.ems.security.CachingAuthenticationProvider;
+import com.example.ems.security.JwtAuthenticationFilter;
+import com.example.ems.security.JwtProperties;
+import com.example.ems.security.JwtService;
+import com.example.ems.service.MyUserDetailsService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
+@EnableConfigurationProperties(JwtProperties.class)
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, CachingAuthenticationProvider authProvider,
+                                           JwtService jwtService) throws Exception {
         http
             .csrf(csrf -> csrf.disable()) // React से POST/PUT के लिए
+            // Stateless: कोई HTTP session नहीं, हर request अपना token/credentials लाती है – किसी भी node पर जा सकती है
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authenticationProvider(authProvider)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/employee/**").hasRole("EMPLOYEE")
-                .requestMatchers("/api/auth/**").permitAll() // login/register public
+                .requestMatchers("/api/auth/**", "/auth/**").permitAll() // login/register/refresh public
+                // <img src> header नहीं भेजता; URL में 256-bit content hash है, अंदाज़े से नहीं मिलता
+                .requestMatchers(HttpMethod.GET, "/api/photos/**").permitAll()
+                // Leave approve/reject सिर्फ admin – वरना employee अपनी ही leave approve कर ले
+                .requestMatchers(HttpMethod.POST, "/api/leaves/status").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PATCH, "/api/leaves/*").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .formLogin(form -> form
@@ -35,6 +57,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Basic auth हर request पर आता है – UserDetails और सही credentials cache से, BCrypt/DB सिर्फ miss पर
+    @Bean
+    public CachingAuthenticationProvider cachingAuthenticationProvider(MyUserDetailsService userDetailsService,
+                                                                       PasswordEncoder passwordEncoder,
+                                                                       AuthenticationCache authenticationCache) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(passwordEncoder);
+        dao.setUserCache(authenticationCache);
+        return new CachingAuthenticationProvider(dao, authenticationCache);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
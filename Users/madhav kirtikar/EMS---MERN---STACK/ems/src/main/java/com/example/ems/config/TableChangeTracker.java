@@ -0,0 +1,99 @@
+package com.example.ems.config;
+
+import com.example.ems.service.TableVersions;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hibernate insert/update/delete events से पता करता है कि transaction ने कौन सी tracked tables छुईं, और commit के
+ * बाद हर table का version एक बार बढ़ाता है (500 rows का bulk chunk = एक bump). Rollback पर कुछ नहीं.
+ * JPQL bulk UPDATE/DELETE और JdbcTemplate writes यहाँ नहीं दिखते – वो खुद TableVersions.bump बुलाएँ.
+ */
+@Component
+public class TableChangeTracker implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TableVersions tableVersions;
+
+    public TableChangeTracker(EntityManagerFactory entityManagerFactory, TableVersions tableVersions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.tableVersions = tableVersions;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        touched(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        touched(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        touched(event.getPersister());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void touched(EntityPersister persister) {
+        Table table = persister.getMappedClass().getAnnotation(Table.class);
+        String name = table != null && !table.name().isEmpty() ? table.name() : persister.getEntityName();
+        if (!TableVersions.TRACKED.contains(name)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tableVersions.bump(name);
+            return;
+        }
+        // सिर्फ current transaction की synchronizations दिखती हैं (REQUIRES_NEW में outer वाली suspended रहती हैं)
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sync instanceof BumpAfterCommit bump) {
+                bump.tables.add(name);
+                return;
+            }
+        }
+        BumpAfterCommit bump = new BumpAfterCommit();
+        bump.tables.add(name);
+        TransactionSynchronizationManager.registerSynchronization(bump);
+    }
+
+    private final class BumpAfterCommit implements TransactionSynchronization {
+        private final Set<String> tables = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            tableVersions.bump(tables);
+        }
+    }
+}
@@ -1,5 +1,7 @@
  package com.example.ems.config;
 
+import com.example.ems.util.PhotoUrls;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
@@ -8,6 +10,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig {
+
+    // Photo URLs API के origin पर absolute – React app दूसरे origin से चलता है
+    public WebConfig(@Value("${app.photos.public-base-url:}") String photosBaseUrl) {
+        PhotoUrls.setBaseUrl(photosBaseUrl);
+    }
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -16,7 +24,9 @@ public class WebConfig {
                 registry.addMapping("/**")
                         .allowedOrigins("http://localhost:5173") // 👈 तुम्हारा React app का URL
                         .allowedMethods("*")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        // JS को If-Match / If-None-Match के लिए ETag पढ़ना है
+                        .exposedHeaders("ETag", "Last-Modified");
             }
         };
     }
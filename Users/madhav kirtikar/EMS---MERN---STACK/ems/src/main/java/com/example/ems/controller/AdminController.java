@@ -2,22 +2,32 @@
 
 import com.example.ems.model.Admin;
 import com.example.ems.repository.AdminRepository;
+import com.example.ems.security.AuthenticationCache;
+import com.example.ems.service.VersionedUpdates;
+import com.example.ems.util.ETags;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RestController
 @RequestMapping("/api/admins")
 public class AdminController {
 
     private final AdminRepository repo;
+    private final AuthenticationCache authenticationCache;
+    private final VersionedUpdates versionedUpdates;
 
     @Autowired
-    public AdminController(AdminRepository repo) {
+    public AdminController(AdminRepository repo, AuthenticationCache authenticationCache,
+                           VersionedUpdates versionedUpdates) {
         this.repo = repo;
+        this.authenticationCache = authenticationCache;
+        this.versionedUpdates = versionedUpdates;
     }
 
     // सभी एडमिन लाओ
@@ -33,17 +43,20 @@ public class AdminController {
         return ResponseEntity.ok(saved);
     }
 
-    // एडमिन अपडेट करो
+    // एडमिन अपडेट करो – If-Match / body version पुराना हो तो 412/409
     @PutMapping("/{id}")
-    public ResponseEntity<Admin> update(@PathVariable Long id, @RequestBody Admin admin) {
-        Optional<Admin> existing = repo.findById(id);
-        if (existing.isPresent()) {
-            admin.setId(id);
-            Admin updated = repo.save(admin);
-            return ResponseEntity.ok(updated);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<Admin> update(@PathVariable Long id,
+                                        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                        @RequestBody Admin admin) {
+        AtomicReference<String> oldUsername = new AtomicReference<>();
+        Admin updated = versionedUpdates.apply(repo, id, ifMatch, admin.getVersion(), existing -> {
+            oldUsername.set(existing.getUsername());
+            BeanUtils.copyProperties(admin, existing, "id", "version");
+        });
+        // username/password बदला हो सकता है – cached auth हटाओ
+        authenticationCache.evict(oldUsername.get());
+        authenticationCache.evict(updated.getUsername());
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
     }
 
     // एडमिन हटाओ
@@ -52,6 +65,7 @@ public class AdminController {
         Optional<Admin> existing = repo.findById(id);
         if (existing.isPresent()) {
             repo.deleteById(id);
+            authenticationCache.evict(existing.get().getUsername());
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
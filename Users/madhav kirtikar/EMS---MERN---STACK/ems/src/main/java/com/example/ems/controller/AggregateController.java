@@ -0,0 +1,53 @@
+package com.example.ems.controller;
+
+import com.example.ems.model.AttendanceSummary;
+import com.example.ems.model.DepartmentAttendanceSummary;
+import com.example.ems.model.LeaveSummary;
+import com.example.ems.repository.AttendanceSummaryRepository;
+import com.example.ems.repository.DepartmentAttendanceSummaryRepository;
+import com.example.ems.repository.LeaveSummaryRepository;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+// HR dashboards: precomputed rollups, raw attendance/leave rows नहीं पढ़े जाते
+@RestController
+@RequestMapping("/api/aggregates")
+public class AggregateController {
+
+    private final AttendanceSummaryRepository attendanceSummaryRepo;
+    private final DepartmentAttendanceSummaryRepository departmentSummaryRepo;
+    private final LeaveSummaryRepository leaveSummaryRepo;
+
+    public AggregateController(AttendanceSummaryRepository attendanceSummaryRepo,
+                               DepartmentAttendanceSummaryRepository departmentSummaryRepo,
+                               LeaveSummaryRepository leaveSummaryRepo) {
+        this.attendanceSummaryRepo = attendanceSummaryRepo;
+        this.departmentSummaryRepo = departmentSummaryRepo;
+        this.leaveSummaryRepo = leaveSummaryRepo;
+    }
+
+    // "Present days per department this month" – month न दो तो current month
+    @GetMapping("/attendance/departments")
+    public List<DepartmentAttendanceSummary> attendanceByDepartment(@RequestParam(required = false) String month) {
+        return departmentSummaryRepo.findByMonthOrderByDepartment(month != null ? month : YearMonth.now().toString());
+    }
+
+    @GetMapping("/attendance/employees/{employeeId}")
+    public List<AttendanceSummary> attendanceByEmployee(@PathVariable Long employeeId) {
+        return attendanceSummaryRepo.findByEmployeeIdOrderByMonthDesc(employeeId);
+    }
+
+    // "Leave days taken per employee this year" – year न दो तो current year
+    @GetMapping("/leaves/employees")
+    public List<LeaveSummary> leavesByEmployee(@RequestParam(required = false) Integer year) {
+        return leaveSummaryRepo.findByYearOrderByEmployeeName(year != null ? year : LocalDate.now().getYear());
+    }
+
+    @GetMapping("/leaves/employees/{employeeId}")
+    public List<LeaveSummary> leavesForEmployee(@PathVariable Long employeeId) {
+        return leaveSummaryRepo.findByEmployeeIdOrderByYearDesc(employeeId);
+    }
+}
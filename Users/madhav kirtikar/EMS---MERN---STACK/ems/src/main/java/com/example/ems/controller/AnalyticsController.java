@@ -0,0 +1,78 @@
+package com.example.ems.controller;
+
+import com.example.ems.dto.HistogramDTO;
+import com.example.ems.dto.MetricSummaryDTO;
+import com.example.ems.service.EmployeeAnalytics;
+import com.example.ems.service.EmployeeAnalytics.GroupBy;
+import com.example.ems.service.EmployeeAnalytics.Metric;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Admin dashboard charts: in-memory snapshot से, DB query नहीं होती.
+// metric = salary | performance | age, groupBy = none | department | gender
+@RestController
+@RequestMapping("/api/analytics/employees")
+public class AnalyticsController {
+    private static final int MAX_BUCKETS = 100;
+    private static final int MAX_PERCENTILES = 20;
+
+    private final EmployeeAnalytics analytics;
+
+    public AnalyticsController(EmployeeAnalytics analytics) {
+        this.analytics = analytics;
+    }
+
+    // /api/analytics/employees/salary/summary?groupBy=department&gender=Female
+    @GetMapping("/{metric}/summary")
+    public List<MetricSummaryDTO> summary(@PathVariable String metric,
+                                          @RequestParam(defaultValue = "none") String groupBy,
+                                          @RequestParam(required = false) String department,
+                                          @RequestParam(required = false) String gender) {
+        return analytics.summary(parse(Metric.class, metric, "metric"), parse(GroupBy.class, groupBy, "groupBy"),
+                department, gender);
+    }
+
+    // /api/analytics/employees/performance/percentiles?p=10,50,90&department=IT
+    @GetMapping("/{metric}/percentiles")
+    public Map<String, Double> percentiles(@PathVariable String metric,
+                                           @RequestParam(defaultValue = "50,90,99") double[] p,
+                                           @RequestParam(required = false) String department,
+                                           @RequestParam(required = false) String gender) {
+        if (p.length == 0 || p.length > MAX_PERCENTILES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "p must have 1 to " + MAX_PERCENTILES + " values");
+        }
+        for (double value : p) {
+            if (!(value >= 0 && value <= 100)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "p must be between 0 and 100");
+            }
+        }
+        return analytics.percentiles(parse(Metric.class, metric, "metric"), p, department, gender);
+    }
+
+    // /api/analytics/employees/age/histogram?buckets=8&groupBy=gender
+    @GetMapping("/{metric}/histogram")
+    public List<HistogramDTO> histogram(@PathVariable String metric,
+                                        @RequestParam(defaultValue = "10") int buckets,
+                                        @RequestParam(defaultValue = "none") String groupBy,
+                                        @RequestParam(required = false) String department,
+                                        @RequestParam(required = false) String gender) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        return analytics.histogram(parse(Metric.class, metric, "metric"), parse(GroupBy.class, groupBy, "groupBy"),
+                buckets, department, gender);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown " + name + ": " + value);
+        }
+    }
+}
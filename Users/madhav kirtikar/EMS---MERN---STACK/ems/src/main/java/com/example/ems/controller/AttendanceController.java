@@ -0,0 +1,65 @@
+package com.example.ems.controller;
+
+import com.example.ems.dto.PunchDTO;
+import com.example.ems.model.Attendance;
+import com.example.ems.repository.AttendanceRepository;
+import com.example.ems.service.AttendanceIngestService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/attendance")
+public class AttendanceController {
+
+    // Buffer भरा हो तो client इतने seconds बाद retry करे
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AttendanceRepository repo;
+    private final AttendanceIngestService ingestService;
+
+    public AttendanceController(AttendanceRepository repo, AttendanceIngestService ingestService) {
+        this.repo = repo;
+        this.ingestService = ingestService;
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public List<Attendance> getByEmployee(@PathVariable Long employeeId) {
+        return repo.findByEmployeeIdOrderByDateDesc(employeeId);
+    }
+
+    // Badge reader punch – buffer में जाता है, DB write background में (202 Accepted)
+    @PostMapping("/punch")
+    public ResponseEntity<Void> punch(@RequestBody PunchDTO punch) {
+        requireEmployee(punch);
+        if (!ingestService.offer(punch)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    // Reader gateways के लिए batch; accepted < punches.size() हो तो बाकी punches retry करें
+    @PostMapping("/punches")
+    public ResponseEntity<Map<String, Integer>> punches(@RequestBody List<PunchDTO> punches) {
+        punches.forEach(AttendanceController::requireEmployee);
+        int accepted = ingestService.offerAll(punches);
+        Map<String, Integer> body = Map.of("accepted", accepted, "rejected", punches.size() - accepted);
+        if (accepted < punches.size()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).body(body);
+        }
+        return ResponseEntity.accepted().body(body);
+    }
+
+    private static void requireEmployee(PunchDTO punch) {
+        if (punch == null || punch.getEmployeeId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "employeeId is required");
+        }
+    }
+}
@@ -1,13 +1,29 @@
  package com.example.ems.controller;
 
+import com.example.ems.dto.LoginRequestDTO;
+import com.example.ems.dto.RefreshRequestDTO;
+import com.example.ems.dto.TokenResponseDTO;
 import com.example.ems.model.User;
 import com.example.ems.repository.UserRepository;
+import com.example.ems.security.AuthenticationCache;
+import com.example.ems.security.CachingAuthenticationProvider;
+import com.example.ems.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+// "/api/auth" SecurityConfig में public है; "/auth" पुराने clients के लिए
 @RestController
-@RequestMapping("/auth")
+@RequestMapping({"/api/auth", "/auth"})
 public class AuthController {
 
     @Autowired
@@ -16,22 +32,66 @@ public class AuthController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private CachingAuthenticationProvider authenticationProvider;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtService jwtService;
+
     @PostMapping("/register")
     public String register(@RequestBody User user) {
-        if (userRepository.findByUsername(user.getUsername()) != null) {
+        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
             return "Username already exists";
         }
 
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        // Default role if not provided
-        if (user.getRole() == null || user.getRole().isEmpty()) {
-            user.setRole("ROLE_EMPLOYEE");
-        } else if (!user.getRole().startsWith("ROLE_")) {
-            user.setRole("ROLE_" + user.getRole().toUpperCase());
-        }
+        // Public endpoint: body का role ignore, हमेशा EMPLOYEE. Admin accounts सिर्फ /api/admin/users (ADMIN) से
+        user.setRole("ROLE_EMPLOYEE");
 
         userRepository.save(user);
+        authenticationCache.evict(user.getUsername());
         return "User registered successfully";
     }
+
+    // Username/password एक बार check होता है, उसके बाद हर request सिर्फ access token से
+    @PostMapping("/login")
+    public TokenResponseDTO login(@RequestBody LoginRequestDTO request) {
+        Authentication auth;
+        try {
+            auth = authenticationProvider.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        } catch (AuthenticationException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid username or password");
+        }
+        return issueTokens((UserDetails) auth.getPrincipal());
+    }
+
+    // Refresh पर user दोबारा load होता है (cache से) ताकि हटाए गए users/बदले roles नए token में न जाएँ
+    @PostMapping("/refresh")
+    public TokenResponseDTO refresh(@RequestBody RefreshRequestDTO request) {
+        UserDetails user;
+        try {
+            Claims claims = jwtService.parse(request.getRefreshToken(), JwtService.TYPE_REFRESH);
+            UserDetails cached = authenticationCache.getUserFromCache(claims.getSubject());
+            user = cached != null ? cached : userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException | AuthenticationException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+        }
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Account disabled");
+        }
+        return issueTokens(user);
+    }
+
+    private TokenResponseDTO issueTokens(UserDetails user) {
+        return new TokenResponseDTO(jwtService.issueAccessToken(user), jwtService.issueRefreshToken(user),
+                jwtService.accessTtlSeconds());
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.ems.controller;
+
+import com.example.ems.dto.DashboardSummaryDTO;
+import com.example.ems.service.DashboardService;
+import com.example.ems.service.TableVersions;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    private final DashboardService service;
+    private final TableVersions tableVersions;
+
+    public DashboardController(DashboardService service, TableVersions tableVersions) {
+        this.service = service;
+        this.tableVersions = tableVersions;
+    }
+
+    // /api/dashboard/summary?month=2025-07 – month न दो तो current month
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryDTO> summary(@RequestParam(required = false) YearMonth month, WebRequest request) {
+        YearMonth m = month != null ? month : YearMonth.now();
+        LocalDate today = LocalDate.now();
+        TableVersions.Stamp stamp = tableVersions.stamp(DashboardService.TABLES);
+        String version = stamp.version() + "." + m + "." + today;
+        String etag = "W/\"" + version + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(service.summary(m, today, version));
+    }
+}
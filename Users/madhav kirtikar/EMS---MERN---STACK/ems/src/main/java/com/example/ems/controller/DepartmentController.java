@@ -1,28 +1,65 @@
 package com.example.ems.controller;
 
 import com.example.ems.model.Department;
-import com.example.ems.repository.DepartmentRepository;
+import com.example.ems.service.DepartmentService;
+import com.example.ems.service.TableVersions;
+import com.example.ems.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/departments")
 public class DepartmentController {
-    private final DepartmentRepository repo;
-    public DepartmentController(DepartmentRepository repo) { this.repo = repo; }
+    private final DepartmentService service;
+    private final TableVersions tableVersions;
+
+    public DepartmentController(DepartmentService service, TableVersions tableVersions) {
+        this.service = service;
+        this.tableVersions = tableVersions;
+    }
 
     @GetMapping
-    public List<Department> getAll() { return repo.findAll(); }
+    public ResponseEntity<List<Department>> getAll(WebRequest request) {
+        TableVersions.Stamp stamp = tableVersions.stamp("departments");
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stamp.etag()).cacheControl(CacheControl.noCache()).body(service.getAll(stamp.version()));
+    }
 
     @PostMapping
-    public Department add(@RequestBody Department dep) { return repo.save(dep); }
+    public Department add(@RequestBody Department dep) { return service.save(dep); }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Department> getById(@PathVariable Long id, WebRequest request) {
+        Department dep = service.get(id);
+        String etag = ETags.of(dep.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(dep);
+    }
 
     @PutMapping("/{id}")
-    public Department update(@PathVariable Long id, @RequestBody Department dep) {
-        dep.setId(id);
-        return repo.save(dep);
+    public ResponseEntity<Department> update(@PathVariable Long id,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                         @RequestBody Department dep) {
+        Department saved = service.update(id, ifMatch, dep);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Department> patch(@PathVariable Long id,
+                                        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                        @RequestBody JsonNode changes) {
+        Department saved = service.patch(id, ifMatch, changes);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) { repo.deleteById(id); }
+    public void delete(@PathVariable Long id) { service.delete(id); }
 }
\ No newline at end of file
@@ -1,28 +1,191 @@
 package com.example.ems.controller;
 
+import com.example.ems.dto.BulkImportResultDTO;
+import com.example.ems.dto.CursorPage;
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.dto.EmployeeDTO;
 import com.example.ems.model.Employee;
 import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.service.BulkImportService;
+import com.example.ems.service.EmployeeAnalytics;
+import com.example.ems.service.EmployeeReferenceResolver;
+import com.example.ems.service.EmployeeService;
+import com.example.ems.service.EmployeeSearchIndex;
+import com.example.ems.service.TableVersions;
+import com.example.ems.service.VersionedUpdates;
+import com.example.ems.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final EmployeeRepository repo;
-    public EmployeeController(EmployeeRepository repo) { this.repo = repo; }
+    private final BulkImportService bulkImportService;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeReferenceResolver references;
+    private final VersionedUpdates versionedUpdates;
+    private final EmployeeService employeeService;
+    private final EmployeeAnalytics analytics;
+    private final TableVersions tableVersions;
+
+    public EmployeeController(EmployeeRepository repo, BulkImportService bulkImportService,
+                              EmployeeSearchIndex searchIndex, EmployeeReferenceResolver references,
+                              VersionedUpdates versionedUpdates, EmployeeService employeeService,
+                              EmployeeAnalytics analytics, TableVersions tableVersions) {
+        this.repo = repo;
+        this.bulkImportService = bulkImportService;
+        this.searchIndex = searchIndex;
+        this.references = references;
+        this.versionedUpdates = versionedUpdates;
+        this.employeeService = employeeService;
+        this.analytics = analytics;
+        this.tableVersions = tableVersions;
+    }
     
+    // Dashboard refresh: list बदली न हो तो 304, employees rows query ही नहीं होतीं
     @GetMapping
-    public List<Employee> getAll() { return repo.findAll(); }
+    public ResponseEntity<List<EmployeeDTO>> getAll(WebRequest request) {
+        TableVersions.Stamp stamp = tableVersions.stamp("employees");
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stamp.etag()).cacheControl(CacheControl.noCache()).body(repo.findAllSummaries());
+    }
+
+    // Keyset pagination: /api/employees/page?size=50&cursor=<nextCursor>&department=IT&minAge=25
+    @GetMapping("/page")
+    public CursorPage<EmployeeDTO> getPage(@RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+                                        @RequestParam(defaultValue = "asc") String sort,
+                                        @RequestParam(required = false) String department,
+                                        @RequestParam(required = false) String position,
+                                        @RequestParam(required = false) String gender,
+                                        @RequestParam(required = false) Integer minAge,
+                                        @RequestParam(required = false) Integer maxAge,
+                                        @RequestParam(required = false) Double minPerformance,
+                                        @RequestParam(required = false) Double maxPerformance) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean descending = "desc".equalsIgnoreCase(sort);
+        if (!descending && !"asc".equalsIgnoreCase(sort)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sort must be asc or desc");
+        }
+
+        Long lastId;
+        try {
+            lastId = cursor == null ? (descending ? Long.MAX_VALUE : 0L) : CursorPage.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+
+        // एक row extra मंगाओ – उससे पता चलता है कि अगला page है या नहीं, count query की ज़रूरत नहीं
+        Limit limit = Limit.of(size + 1);
+        List<EmployeeDTO> rows = descending
+                ? repo.findPageBefore(lastId, department, position, gender, minAge, maxAge, minPerformance, maxPerformance, limit)
+                : repo.findPageAfter(lastId, department, position, gender, minAge, maxAge, minPerformance, maxPerformance, limit);
+
+        boolean hasMore = rows.size() > size;
+        List<EmployeeDTO> items = hasMore ? rows.subList(0, size) : rows;
+        String next = hasMore ? CursorPage.encodeCursor(items.get(items.size() - 1).getId()) : null;
+        return new CursorPage<>(items, next, hasMore);
+    }
+
+    // Search box: /api/employees/search?q=rav&limit=20 – name/email/department/position पर prefix + एक typo तक
+    @GetMapping("/search")
+    public List<EmployeeDTO> search(@RequestParam("q") String query,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return searchIndex.search(query, limit);
+    }
+
+    // If-None-Match match करे तो 304, body नहीं भेजी जाती
+    @GetMapping("/{id}")
+    public ResponseEntity<Employee> getById(@PathVariable Long id, WebRequest request) {
+        Employee emp = repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
+        String etag = ETags.of(emp.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(emp);
+    }
 
     @PostMapping
-    public Employee add(@RequestBody Employee emp) { return repo.save(emp); }
+    public Employee add(@RequestBody Employee emp) {
+        Employee saved = employeeService.create(emp);
+        searchIndex.upsert(saved);
+        analytics.upsert(saved);
+        return saved;
+    }
+
+    // Bulk ingest: JSON array, text/csv body या multipart "file" – per-row errors के साथ partial success
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultDTO bulkAdd(@RequestBody List<Employee> employees) {
+        return bulkImportService.importEmployees(employees);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public BulkImportResultDTO bulkAddCsv(InputStream csv) throws IOException {
+        return bulkImportService.importEmployeesCsv(csv);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BulkImportResultDTO bulkAddCsvFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return bulkImportService.importEmployeesCsv(csv);
+        }
+    }
 
     @PutMapping("/{id}")
-    public Employee update(@PathVariable Long id, @RequestBody Employee emp) {
-        emp.setId(id);
-        return repo.save(emp);
+    public ResponseEntity<Employee> update(@PathVariable Long id,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                           @RequestBody Employee emp) {
+        references.resolve(emp);
+        // "photo" computed है; body का URL photoUrl से copy होता है. Password response में नहीं जाता, इसलिए edit form
+        // उसे खाली भेजता है – तब पुराना रहता है
+        String[] ignored = emp.getPassword() == null || emp.getPassword().isBlank()
+                ? new String[] {"departmentRef", "photoHash", "photo", "password"}
+                : new String[] {"departmentRef", "photoHash", "photo"};
+        Employee saved = versionedUpdates.replace(repo, id, ifMatch, emp, ignored);
+        searchIndex.upsert(saved);
+        analytics.upsert(saved);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+
+    // Partial update: सिर्फ भेजी गई fields, UPDATE में भी सिर्फ वही columns
+    @PatchMapping("/{id}")
+    public ResponseEntity<Employee> patch(@PathVariable Long id,
+                                          @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                          @RequestBody JsonNode changes) {
+        Employee saved = versionedUpdates.patch(repo, id, ifMatch, changes, references::resolve);
+        searchIndex.upsert(saved);
+        analytics.upsert(saved);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) { repo.deleteById(id); }
-}
\ No newline at end of file
+    public void delete(@PathVariable Long id) {
+        repo.deleteById(id);
+        searchIndex.remove(id);
+        analytics.remove(id);
+    }
+}
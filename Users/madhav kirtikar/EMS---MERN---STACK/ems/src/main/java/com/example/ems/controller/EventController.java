@@ -1,28 +1,73 @@
 package com.example.ems.controller;
 
 import com.example.ems.model.Event;
-import com.example.ems.repository.EventRepository;
+import com.example.ems.service.EventService;
+import com.example.ems.service.TableVersions;
+import com.example.ems.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
-    private final EventRepository repo;
-    public EventController(EventRepository repo) { this.repo = repo; }
+    private final EventService service;
+    private final TableVersions tableVersions;
+
+    public EventController(EventService service, TableVersions tableVersions) {
+        this.service = service;
+        this.tableVersions = tableVersions;
+    }
 
     @GetMapping
-    public List<Event> getAll() { return repo.findAll(); }
+    public ResponseEntity<List<Event>> getAll(WebRequest request) {
+        TableVersions.Stamp stamp = tableVersions.stamp("events");
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stamp.etag()).cacheControl(CacheControl.noCache()).body(service.getAll(stamp.version()));
+    }
+
+    @GetMapping("/range")
+    public List<Event> getInRange(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return service.getInRange(from, to);
+    }
 
     @PostMapping
-    public Event add(@RequestBody Event event) { return repo.save(event); }
+    public Event add(@RequestBody Event event) { return service.add(event); }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Event> getById(@PathVariable Long id, WebRequest request) {
+        Event event = service.get(id);
+        String etag = ETags.of(event.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(event);
+    }
 
     @PutMapping("/{id}")
-    public Event update(@PathVariable Long id, @RequestBody Event event) {
-        event.setId(id);
-        return repo.save(event);
+    public ResponseEntity<Event> update(@PathVariable Long id,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                         @RequestBody Event event) {
+        Event saved = service.update(id, ifMatch, event);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Event> patch(@PathVariable Long id,
+                                        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                        @RequestBody JsonNode changes) {
+        Event saved = service.patch(id, ifMatch, changes);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) { repo.deleteById(id); }
+    public void delete(@PathVariable Long id) { service.delete(id); }
 }
\ No newline at end of file
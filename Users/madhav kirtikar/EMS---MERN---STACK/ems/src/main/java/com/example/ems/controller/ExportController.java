@@ -0,0 +1,67 @@
+package com.example.ems.controller;
+
+import com.example.ems.service.ExportService;
+import com.example.ems.service.ExportService.Format;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Nightly payroll/analytics jobs के लिए: /api/export/salaries?format=csv&afterId=12345
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(defaultValue = "0") long afterId,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Format fmt = switch (format.toLowerCase()) {
+            case "ndjson", "json" -> Format.NDJSON;
+            case "csv" -> Format.CSV;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv");
+        };
+        if (!dataset.equals("employees") && !dataset.equals("salaries") && !dataset.equals("leaves")) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown export dataset: " + dataset);
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = rawOut -> {
+            OutputStream out = gzip ? new GZIPOutputStream(rawOut, 64 * 1024) : rawOut;
+            switch (dataset) {
+                case "employees" -> exportService.exportEmployees(out, fmt, afterId);
+                case "salaries" -> exportService.exportSalaries(out, fmt, afterId);
+                default -> exportService.exportLeaves(out, fmt, afterId);
+            }
+            if (out instanceof GZIPOutputStream gz) {
+                gz.finish();
+            }
+            out.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(fmt == Format.CSV ? new MediaType("text", "csv") : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + dataset + (fmt == Format.CSV ? ".csv" : ".ndjson") + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
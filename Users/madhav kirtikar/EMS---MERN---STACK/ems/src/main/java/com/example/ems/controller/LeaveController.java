@@ -1,41 +1,100 @@
 package com.example.ems.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.ems.dto.LeaveBalanceDTO;
+import com.example.ems.dto.LeaveDTO;
+import com.example.ems.dto.LeaveTransitionDTO;
+import com.example.ems.dto.LeaveTransitionResultDTO;
 import com.example.ems.model.Leave;
-import com.example.ems.repository.LeaveRepository;
+import com.example.ems.service.LeaveService;
+import com.example.ems.service.TableVersions;
+import com.example.ems.util.ETags;
 
 @RestController
 @RequestMapping("/api/leaves")
 public class LeaveController {
-    private final LeaveRepository repo;
-    public LeaveController(LeaveRepository repo) { this.repo = repo; }
+    private final LeaveService service;
+    private final TableVersions tableVersions;
+
+    public LeaveController(LeaveService service, TableVersions tableVersions) {
+        this.service = service;
+        this.tableVersions = tableVersions;
+    }
 
     @GetMapping
-    public List<Leave> getAll() { return repo.findAll(); }
+    public ResponseEntity<List<Leave>> getAll(WebRequest request) {
+        TableVersions.Stamp stamp = tableVersions.stamp("leaves");
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stamp.etag()).cacheControl(CacheControl.noCache()).body(service.getAll());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Leave> getById(@PathVariable Long id, WebRequest request) {
+        Leave leave = service.get(id);
+        String etag = ETags.of(leave.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(leave);
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public List<LeaveDTO> getForEmployee(@PathVariable Long employeeId) {
+        return service.getForEmployee(employeeId);
+    }
+
+    // Year न दो तो current year
+    @GetMapping("/employee/{employeeId}/balance")
+    public LeaveBalanceDTO getBalance(@PathVariable Long employeeId, @RequestParam(required = false) Integer year) {
+        return service.balance(employeeId, year != null ? year : LocalDate.now().getYear());
+    }
+
+    // e.g. /api/leaves/range?from=2025-07-01&to=2025-07-31&status=Approved
+    @GetMapping("/range")
+    public List<Leave> getInRange(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                  @RequestParam(required = false) String status) {
+        return service.getInRange(from, to, status);
+    }
 
     @PostMapping
     public Leave add(@RequestBody Leave leave) {
-        leave.setStatus("Pending");
-        return repo.save(leave);
+        return service.add(leave);
+    }
+
+    // Bulk approve/reject/cancel (ADMIN): {"ids": [..], "status": "APPROVED"}; जो transition न हो सके वो "skipped" में
+    @PostMapping("/status")
+    public LeaveTransitionResultDTO transition(@RequestBody LeaveTransitionDTO request) {
+        return service.transition(request.getIds(), request.getStatus());
     }
 
     @PatchMapping("/{id}")
-    public Leave updateStatus(@PathVariable Long id, @RequestBody Leave leave) {
-        Leave l = repo.findById(id).orElseThrow();
-        l.setStatus(leave.getStatus());
-        return repo.save(l);
+    public ResponseEntity<Leave> updateStatus(@PathVariable Long id,
+                                              @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                              @RequestBody Leave leave) {
+        Leave saved = service.updateStatus(id, leave.getStatus(), ifMatch, leave.getVersion());
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) { repo.deleteById(id); }
+    public void delete(@PathVariable Long id) { service.delete(id); }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.ems.controller;
+
+import com.example.ems.model.Notification;
+import com.example.ems.service.NotificationBroadcaster;
+import com.example.ems.service.NotificationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+    private static final int MAX_LIMIT = 200;
+
+    private final NotificationService service;
+    private final NotificationBroadcaster broadcaster;
+
+    public NotificationController(NotificationService service, NotificationBroadcaster broadcaster) {
+        this.service = service;
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping
+    public List<Notification> getRecent(Authentication auth, @RequestParam(defaultValue = "50") int limit) {
+        return service.recent(roleOf(auth), Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    // new EventSource("/api/notifications/stream?access_token=...") – reconnect पर browser Last-Event-ID भेजता है.
+    // छूटी notifications broadcaster की उसी per-client queue से live events से पहले जाती हैं
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication auth,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        String role = roleOf(auth);
+        return broadcaster.subscribe(role,
+                () -> lastEventId == null ? List.<Notification>of() : service.since(role, lastEventId));
+    }
+
+    private static String roleOf(Authentication auth) {
+        for (GrantedAuthority a : auth.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(a.getAuthority())) {
+                return "ADMIN";
+            }
+        }
+        for (GrantedAuthority a : auth.getAuthorities()) {
+            if ("ROLE_EMPLOYEE".equals(a.getAuthority())) {
+                return "EMPLOYEE";
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "No notification role");
+    }
+}
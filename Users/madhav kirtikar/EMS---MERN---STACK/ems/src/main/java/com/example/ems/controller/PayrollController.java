@@ -0,0 +1,36 @@
+package com.example.ems.controller;
+
+import com.example.ems.dto.PayrollRunRequestDTO;
+import com.example.ems.model.PayrollRun;
+import com.example.ems.service.PayrollService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.YearMonth;
+import java.util.List;
+
+// POST से run शुरू (202), फिर /api/payroll/runs/{id} से progress poll करो
+@RestController
+@RequestMapping("/api/payroll/runs")
+public class PayrollController {
+    private final PayrollService service;
+    public PayrollController(PayrollService service) { this.service = service; }
+
+    @PostMapping
+    public ResponseEntity<PayrollRun> start(@RequestBody PayrollRunRequestDTO request) {
+        if (request.getMonth() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "month is required");
+        }
+        PayrollRun run = service.start(request.getMonth());
+        return ResponseEntity.accepted().location(URI.create("/api/payroll/runs/" + run.getId())).body(run);
+    }
+
+    @GetMapping("/{id}")
+    public PayrollRun get(@PathVariable Long id) { return service.get(id); }
+
+    @GetMapping
+    public List<PayrollRun> forMonth(@RequestParam YearMonth month) { return service.forMonth(month); }
+}
@@ -0,0 +1,114 @@
+package com.example.ems.controller;
+
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.model.Employee;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.service.PhotoStore;
+import com.example.ems.service.VersionedUpdates;
+import com.example.ems.util.ETags;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+public class PhotoController {
+    // Tomcat NIO connector: ये request attributes set हों तो servlet body नहीं लिखता, Tomcat file को sendfile
+    // (FileChannel.transferTo) से सीधे socket में भेजता है – bytes JVM heap से नहीं गुज़रते
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Content-addressed URL की bytes कभी नहीं बदलतीं
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    private final PhotoStore photoStore;
+    private final EmployeeRepository repo;
+    private final VersionedUpdates versionedUpdates;
+
+    public PhotoController(PhotoStore photoStore, EmployeeRepository repo, VersionedUpdates versionedUpdates) {
+        this.photoStore = photoStore;
+        this.repo = repo;
+        this.versionedUpdates = versionedUpdates;
+    }
+
+    // /api/photos/{hash} original, ?size=64|128|256 JPEG thumbnail
+    @GetMapping("/api/photos/{hash}")
+    public ResponseEntity<Resource> get(@PathVariable String hash,
+                                        @RequestParam(required = false) Integer size,
+                                        WebRequest webRequest, HttpServletRequest request) throws IOException {
+        Path file = size == null ? photoStore.original(hash) : photoStore.thumbnail(hash, size);
+        String etag = "\"" + hash + (size == null ? "" : "-" + size) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        long length = Files.size(file);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .contentType(photoStore.contentType(file))
+                .contentLength(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return ok.build();
+        }
+        return ok.body(new FileSystemResource(file));
+    }
+
+    // Employee का current photo: content URL पर redirect, ताकि browser उसी immutable URL को cache करे
+    @GetMapping("/api/employees/{id}/photo")
+    public ResponseEntity<Void> employeePhoto(@PathVariable Long id, @RequestParam(required = false) Integer size) {
+        Employee emp = repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
+        if (emp.getPhoto() == null) {
+            throw new ResourceNotFoundException("Employee " + id + " has no photo");
+        }
+        // Photo URL वाले employee का thumbnail नहीं बनता, सीधे उसी URL पर
+        String location = emp.getPhoto() + (size == null || emp.getPhotoHash() == null ? "" : "?size=" + size);
+        return ResponseEntity.status(302).location(URI.create(location)).cacheControl(CacheControl.noCache()).build();
+    }
+
+    @PostMapping(value = "/api/employees/{id}/photo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Employee> upload(@PathVariable Long id,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                           @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return attach(id, ifMatch, photoStore.put(in));
+        }
+    }
+
+    // Raw body: curl --data-binary @me.jpg -H "Content-Type: image/jpeg"
+    @PostMapping(value = "/api/employees/{id}/photo",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp"})
+    public ResponseEntity<Employee> uploadRaw(@PathVariable Long id,
+                                              @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                              InputStream body) throws IOException {
+        return attach(id, ifMatch, photoStore.put(body));
+    }
+
+    // सिर्फ reference हटता है; same file दूसरे employee की भी हो सकती है
+    @DeleteMapping("/api/employees/{id}/photo")
+    public ResponseEntity<Employee> remove(@PathVariable Long id,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        return attach(id, ifMatch, null);
+    }
+
+    private ResponseEntity<Employee> attach(Long id, String ifMatch, String hash) {
+        Employee saved = versionedUpdates.apply(repo, id, ifMatch, null, e -> e.setPhotoHash(hash));
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.ems.controller;
+
+import com.example.ems.dto.AdminProfileDTO;
+import com.example.ems.dto.EmployeeSettingsDTO;
+import com.example.ems.dto.PasswordChangeDTO;
+import com.example.ems.model.Admin;
+import com.example.ems.model.Employee;
+import com.example.ems.service.EmployeeAnalytics;
+import com.example.ems.service.EmployeeSearchIndex;
+import com.example.ems.service.ProfileService;
+import com.example.ems.util.ETags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+// Logged-in user के अपने profile endpoints. /api/employee/** सिर्फ EMPLOYEE, /api/admin/** सिर्फ ADMIN (SecurityConfig)
+@RestController
+public class ProfileController {
+    private final ProfileService service;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeAnalytics analytics;
+
+    public ProfileController(ProfileService service, EmployeeSearchIndex searchIndex, EmployeeAnalytics analytics) {
+        this.service = service;
+        this.searchIndex = searchIndex;
+        this.analytics = analytics;
+    }
+
+    // Employee portal का सबसे ज़्यादा hit होने वाला call – पहले पूरी /api/employees list आती थी
+    @GetMapping({"/api/employee/me", "/api/employee/settings"})
+    public ResponseEntity<Employee> me(Authentication auth, WebRequest request) {
+        Employee me = service.employee(auth.getName());
+        String etag = ETags.of(me.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()).body(me);
+    }
+
+    @PutMapping("/api/employee/settings")
+    public ResponseEntity<Employee> updateSettings(Authentication auth,
+                                                   @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                   @RequestBody EmployeeSettingsDTO settings) {
+        Employee saved = service.updateSettings(auth.getName(), ifMatch, settings);
+        searchIndex.upsert(saved);
+        analytics.upsert(saved);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+
+    @GetMapping("/api/admin/profile")
+    public ResponseEntity<AdminProfileDTO> adminProfile(Authentication auth, WebRequest request) {
+        Admin admin = service.admin(auth.getName());
+        String etag = ETags.of(admin.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ProfileService.toProfile(admin));
+    }
+
+    @PutMapping("/api/admin/profile")
+    public ResponseEntity<AdminProfileDTO> updateAdminProfile(Authentication auth,
+                                                              @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                              @RequestBody AdminProfileDTO.Profile profile) {
+        Admin saved = service.updateAdminProfile(auth.getName(), ifMatch, profile);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(ProfileService.toProfile(saved));
+    }
+
+    // Body: {"current": "...", "new": "..."}
+    @PutMapping("/api/admin/password")
+    public ResponseEntity<Void> changeAdminPassword(Authentication auth, @RequestBody PasswordChangeDTO change) {
+        service.changeAdminPassword(auth.getName(), change);
+        return ResponseEntity.noContent().build();
+    }
+}
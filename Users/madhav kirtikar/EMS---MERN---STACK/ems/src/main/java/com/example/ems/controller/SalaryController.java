@@ -1,20 +1,37 @@
  package com.example.ems.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
  import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.example.ems.dto.BulkImportResultDTO;
+import com.example.ems.dto.SalaryDTO;
 import com.example.ems.model.Salary;
 import com.example.ems.repository.SalaryRepository;
+import com.example.ems.service.BulkImportService;
+import com.example.ems.service.SalaryService;
+import com.example.ems.service.TableVersions;
+import com.example.ems.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import jakarta.validation.Valid;
 
@@ -23,28 +40,86 @@ import jakarta.validation.Valid;
 public class SalaryController {
 
     private final SalaryRepository repo;
+    private final BulkImportService bulkImportService;
+    private final SalaryService salaryService;
+    private final TableVersions tableVersions;
 
-    public SalaryController(SalaryRepository repo) {
+    public SalaryController(SalaryRepository repo, BulkImportService bulkImportService, SalaryService salaryService,
+                            TableVersions tableVersions) {
         this.repo = repo;
+        this.bulkImportService = bulkImportService;
+        this.salaryService = salaryService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<Salary> getAll() {
-        return repo.findAll();
+    public ResponseEntity<List<Salary>> getAll(WebRequest request) {
+        TableVersions.Stamp stamp = tableVersions.stamp("salaries");
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stamp.etag()).cacheControl(CacheControl.noCache()).body(repo.findAll());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Salary> getById(@PathVariable Long id, WebRequest request) {
+        Salary salary = repo.findById(id).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Salary record not found with ID: " + id));
+        String etag = ETags.of(salary.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(salary);
+    }
+
+    // Employee की salary history id से; name employee के current record से (rename के बाद भी)
+    @GetMapping("/employee/{employeeId}")
+    public List<SalaryDTO> getForEmployee(@PathVariable Long employeeId) {
+        return repo.findByEmployeeIdOrderByMonthDesc(employeeId).stream()
+                .map(s -> new SalaryDTO(s.getId(),
+                        s.getEmployee() != null ? s.getEmployee().getName() : s.getEmployeeName(),
+                        s.getMonth(), s.getAmount(), s.getStatus()))
+                .toList();
     }
 
     @PostMapping
     public Salary add(@Valid @RequestBody Salary salary) {
-        return repo.save(salary);
+        return salaryService.add(salary);
     }
 
-    @PutMapping("/{id}")
-    public Salary update(@PathVariable Long id, @Valid @RequestBody Salary salary) {
-        if (!repo.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Salary record not found with ID: " + id);
+    // Month-end payroll: पूरा run एक request में (JSON array, text/csv body या multipart "file")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultDTO bulkAdd(@RequestBody List<Salary> salaries) {
+        return bulkImportService.importSalaries(salaries);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public BulkImportResultDTO bulkAddCsv(InputStream csv) throws IOException {
+        return bulkImportService.importSalariesCsv(csv);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BulkImportResultDTO bulkAddCsvFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return bulkImportService.importSalariesCsv(csv);
         }
-        salary.setId(id);
-        return repo.save(salary);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Salary> update(@PathVariable Long id,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                         @Valid @RequestBody Salary salary) {
+        Salary saved = salaryService.replace(id, ifMatch, salary);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
+    }
+
+    // e.g. {"status": "PAID"} – सिर्फ status column update होता है
+    @PatchMapping("/{id}")
+    public ResponseEntity<Salary> patch(@PathVariable Long id,
+                                        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                        @RequestBody JsonNode changes) {
+        Salary saved = salaryService.patch(id, ifMatch, changes);
+        return ResponseEntity.ok().eTag(ETags.of(saved.getVersion())).body(saved);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,52 @@
+package com.example.ems.controller;
+
+import com.example.ems.model.User;
+import com.example.ems.repository.UserRepository;
+import com.example.ems.security.AuthenticationCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+import java.util.Set;
+
+// Login accounts किसी भी role के साथ – /api/admin/** SecurityConfig में सिर्फ ADMIN. Public /auth/register सिर्फ EMPLOYEE बनाता है
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserAdminController {
+    private static final Set<String> ROLES = Set.of("ADMIN", "EMPLOYEE");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+
+    public UserAdminController(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                               AuthenticationCache authenticationCache) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.authenticationCache = authenticationCache;
+    }
+
+    @PostMapping
+    public String create(@RequestBody User user) {
+        if (user.getUsername() == null || user.getUsername().isBlank()
+                || user.getPassword() == null || user.getPassword().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "username and password are required");
+        }
+        String role = user.getRole() == null ? "EMPLOYEE"
+                : user.getRole().trim().toUpperCase(Locale.ROOT).replaceFirst("^ROLE_", "");
+        if (!ROLES.contains(role)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role must be one of " + ROLES);
+        }
+        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Username already exists");
+        }
+        user.setId(null);
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setRole("ROLE_" + role);
+        userRepository.save(user);
+        authenticationCache.evict(user.getUsername());
+        return "User registered successfully";
+    }
+}
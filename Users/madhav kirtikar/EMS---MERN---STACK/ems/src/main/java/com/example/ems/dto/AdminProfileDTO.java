@@ -0,0 +1,33 @@
+package com.example.ems.dto;
+
+// Admin Settings page इसी shape में पढ़ता है: res.data.profile.name
+public class AdminProfileDTO {
+    private Profile profile;
+
+    public AdminProfileDTO() {}
+
+    public AdminProfileDTO(Profile profile) {
+        this.profile = profile;
+    }
+
+    public Profile getProfile() { return profile; }
+    public void setProfile(Profile profile) { this.profile = profile; }
+
+    public static class Profile {
+        private String name;
+        private String email;
+
+        public Profile() {}
+
+        public Profile(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+    }
+}
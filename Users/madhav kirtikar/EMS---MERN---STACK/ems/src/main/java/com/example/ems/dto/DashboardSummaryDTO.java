@@ -0,0 +1,88 @@
+package com.example.ems.dto;
+
+import com.example.ems.model.Event;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// Admin dashboard का एक response: पहले ये चार full-table GETs (/employees, /leaves, /salaries, /events) से बनता था
+public class DashboardSummaryDTO {
+    private YearMonth month;
+    private long headcount;
+    private List<DepartmentHeadcount> departments;
+    private long pendingLeaves;
+    private SalaryTotals paid;
+    private SalaryTotals unpaid;
+    private List<Event> upcomingEvents;
+
+    public DashboardSummaryDTO() {}
+
+    public DashboardSummaryDTO(YearMonth month, long headcount, List<DepartmentHeadcount> departments, long pendingLeaves,
+                               SalaryTotals paid, SalaryTotals unpaid, List<Event> upcomingEvents) {
+        this.month = month;
+        this.headcount = headcount;
+        this.departments = departments;
+        this.pendingLeaves = pendingLeaves;
+        this.paid = paid;
+        this.unpaid = unpaid;
+        this.upcomingEvents = upcomingEvents;
+    }
+
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public long getHeadcount() { return headcount; }
+    public void setHeadcount(long headcount) { this.headcount = headcount; }
+
+    public List<DepartmentHeadcount> getDepartments() { return departments; }
+    public void setDepartments(List<DepartmentHeadcount> departments) { this.departments = departments; }
+
+    public long getPendingLeaves() { return pendingLeaves; }
+    public void setPendingLeaves(long pendingLeaves) { this.pendingLeaves = pendingLeaves; }
+
+    public SalaryTotals getPaid() { return paid; }
+    public void setPaid(SalaryTotals paid) { this.paid = paid; }
+
+    public SalaryTotals getUnpaid() { return unpaid; }
+    public void setUnpaid(SalaryTotals unpaid) { this.unpaid = unpaid; }
+
+    public List<Event> getUpcomingEvents() { return upcomingEvents; }
+    public void setUpcomingEvents(List<Event> upcomingEvents) { this.upcomingEvents = upcomingEvents; }
+
+    // department null = किसी department में नहीं
+    public static class DepartmentHeadcount {
+        private String department;
+        private long count;
+
+        public DepartmentHeadcount() {}
+
+        public DepartmentHeadcount(String department, long count) {
+            this.department = department;
+            this.count = count;
+        }
+
+        public String getDepartment() { return department; }
+        public void setDepartment(String department) { this.department = department; }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+
+    public static class SalaryTotals {
+        private long count;
+        private double amount;
+
+        public SalaryTotals() {}
+
+        public SalaryTotals(long count, double amount) {
+            this.count = count;
+            this.amount = amount;
+        }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+
+        public double getAmount() { return amount; }
+        public void setAmount(double amount) { this.amount = amount; }
+    }
+}
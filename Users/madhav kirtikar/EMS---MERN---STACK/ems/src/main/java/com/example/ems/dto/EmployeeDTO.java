@@ -1,5 +1,7 @@
  package com.example.ems.dto;
 
+import com.example.ems.util.PhotoUrls;
+
 public class EmployeeDTO {
     private Long id;
     private String name;
@@ -33,6 +35,20 @@ public class EmployeeDTO {
         this.performance = performance;
     }
 
+    public EmployeeDTO(Long id, String name, String department, String position, String email,
+                       String phone, String address, Double salary,
+                       String gender, Integer age, Double performance) {
+        this(id, name, department, position, email, phone, address, salary, null, gender, age, performance);
+    }
+
+    // List/projection queries के लिए: photo hash + legacy URL से वही "photo" जो Employee JSON में है; password नहीं
+    public EmployeeDTO(Long id, String name, String department, String position, String email,
+                       String phone, String address, Double salary, String photoHash, String photoUrl,
+                       String gender, Integer age, Double performance) {
+        this(id, name, department, position, email, phone, address, salary, PhotoUrls.of(photoHash, photoUrl),
+                gender, age, performance);
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -0,0 +1,26 @@
+package com.example.ems.dto;
+
+// Employee खुद क्या बदल सकता है: email (login), salary, department वगैरह सिर्फ admin बदलता है
+public class EmployeeSettingsDTO {
+    private String name;
+    private String phone;
+    private String address;
+    private String gender;
+    // खाली हो तो password नहीं बदलता
+    private String password;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+
+    public String getGender() { return gender; }
+    public void setGender(String gender) { this.gender = gender; }
+
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+}
@@ -1,16 +1,18 @@
  package com.example.ems.dto;
 
+import java.time.LocalDate;
+
 public class EventDTO {
     private Long id;
     private String title;
     private String description;
-    private String date;
+    private LocalDate date;
 
     public EventDTO() {
         // Default constructor
     }
 
-    public EventDTO(Long id, String title, String description, String date) {
+    public EventDTO(Long id, String title, String description, LocalDate date) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -41,11 +43,11 @@ public class EventDTO {
         this.description = description;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return date;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.ems.dto;
+
+public class HistogramDTO {
+    private String group;
+    // सारे groups की same buckets: bucket i = [min + i*bucketWidth, min + (i+1)*bucketWidth), आखिरी में max भी
+    private double min;
+    private double bucketWidth;
+    private long[] counts;
+
+    public HistogramDTO() {}
+
+    public HistogramDTO(String group, double min, double bucketWidth, long[] counts) {
+        this.group = group;
+        this.min = min;
+        this.bucketWidth = bucketWidth;
+        this.counts = counts;
+    }
+
+    public String getGroup() { return group; }
+    public void setGroup(String group) { this.group = group; }
+
+    public double getMin() { return min; }
+    public void setMin(double min) { this.min = min; }
+
+    public double getBucketWidth() { return bucketWidth; }
+    public void setBucketWidth(double bucketWidth) { this.bucketWidth = bucketWidth; }
+
+    public long[] getCounts() { return counts; }
+    public void setCounts(long[] counts) { this.counts = counts; }
+}
@@ -0,0 +1,37 @@
+package com.example.ems.dto;
+
+// Calendar year की leave balance; remaining = allowance - approved - pending (pending भी reserve मानी जाती है)
+public class LeaveBalanceDTO {
+    private Long employeeId;
+    private int year;
+    private int allowance;
+    private long approvedDays;
+    private long pendingDays;
+
+    public LeaveBalanceDTO() {}
+
+    public LeaveBalanceDTO(Long employeeId, int year, int allowance, long approvedDays, long pendingDays) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.allowance = allowance;
+        this.approvedDays = approvedDays;
+        this.pendingDays = pendingDays;
+    }
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getAllowance() { return allowance; }
+    public void setAllowance(int allowance) { this.allowance = allowance; }
+
+    public long getApprovedDays() { return approvedDays; }
+    public void setApprovedDays(long approvedDays) { this.approvedDays = approvedDays; }
+
+    public long getPendingDays() { return pendingDays; }
+    public void setPendingDays(long pendingDays) { this.pendingDays = pendingDays; }
+
+    public long getRemaining() { return allowance - approvedDays - pendingDays; }
+}
@@ -1,11 +1,13 @@
  package com.example.ems.dto;
 
+import java.time.LocalDate;
+
 public class LeaveDTO {
     private Long id;
     private String name;
     private String department;
-    private String fromDate;
-    private String toDate;
+    private LocalDate fromDate;
+    private LocalDate toDate;
     private String reason;
     private String status;
 
@@ -13,7 +15,7 @@ public class LeaveDTO {
         // Default constructor
     }
 
-    public LeaveDTO(Long id, String name, String department, String fromDate, String toDate, String reason, String status) {
+    public LeaveDTO(Long id, String name, String department, LocalDate fromDate, LocalDate toDate, String reason, String status) {
         this.id = id;
         this.name = name;
         this.department = department;
@@ -32,11 +34,11 @@ public class LeaveDTO {
     public String getDepartment() { return department; }
     public void setDepartment(String department) { this.department = department; }
 
-    public String getFromDate() { return fromDate; }
-    public void setFromDate(String fromDate) { this.fromDate = fromDate; }
+    public LocalDate getFromDate() { return fromDate; }
+    public void setFromDate(LocalDate fromDate) { this.fromDate = fromDate; }
 
-    public String getToDate() { return toDate; }
-    public void setToDate(String toDate) { this.toDate = toDate; }
+    public LocalDate getToDate() { return toDate; }
+    public void setToDate(LocalDate toDate) { this.toDate = toDate; }
 
     public String getReason() { return reason; }
     public void setReason(String reason) { this.reason = reason; }
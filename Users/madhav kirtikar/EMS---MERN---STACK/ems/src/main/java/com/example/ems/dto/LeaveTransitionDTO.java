@@ -0,0 +1,17 @@
+package com.example.ems.dto;
+
+import java.util.List;
+
+// Bulk approve/reject/cancel: {"ids": [12, 15, 18], "status": "APPROVED"}
+public class LeaveTransitionDTO {
+    private List<Long> ids;
+    private String status;
+
+    public LeaveTransitionDTO() {}
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
@@ -0,0 +1,46 @@
+package com.example.ems.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LeaveTransitionResultDTO {
+    private String status;
+    private List<Long> updated = new ArrayList<>();
+    private List<Skipped> skipped = new ArrayList<>();
+
+    public LeaveTransitionResultDTO() {}
+
+    public LeaveTransitionResultDTO(String status) {
+        this.status = status;
+    }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public List<Long> getUpdated() { return updated; }
+    public void setUpdated(List<Long> updated) { this.updated = updated; }
+
+    public List<Skipped> getSkipped() { return skipped; }
+    public void setSkipped(List<Skipped> skipped) { this.skipped = skipped; }
+
+    public void skip(Long id, String reason) { skipped.add(new Skipped(id, reason)); }
+
+    // Not found, पहले से उसी status में, या transition allowed नहीं (जैसे REJECTED -> APPROVED)
+    public static class Skipped {
+        private Long id;
+        private String reason;
+
+        public Skipped() {}
+
+        public Skipped(Long id, String reason) {
+            this.id = id;
+            this.reason = reason;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getReason() { return reason; }
+        public void setReason(String reason) { this.reason = reason; }
+    }
+}
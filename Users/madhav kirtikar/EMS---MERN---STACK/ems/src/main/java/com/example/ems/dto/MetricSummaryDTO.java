@@ -0,0 +1,61 @@
+package com.example.ems.dto;
+
+public class MetricSummaryDTO {
+    // groupBy=none पर null; department/gender null हो तो भी null
+    private String group;
+    private int count;
+    private double mean;
+    private double min;
+    private double max;
+    private double p25;
+    private double p50;
+    private double p75;
+    private double p90;
+    private double p99;
+
+    public MetricSummaryDTO() {}
+
+    public MetricSummaryDTO(String group, int count, double mean, double min, double max,
+                            double p25, double p50, double p75, double p90, double p99) {
+        this.group = group;
+        this.count = count;
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.p25 = p25;
+        this.p50 = p50;
+        this.p75 = p75;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public String getGroup() { return group; }
+    public void setGroup(String group) { this.group = group; }
+
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+
+    public double getMean() { return mean; }
+    public void setMean(double mean) { this.mean = mean; }
+
+    public double getMin() { return min; }
+    public void setMin(double min) { this.min = min; }
+
+    public double getMax() { return max; }
+    public void setMax(double max) { this.max = max; }
+
+    public double getP25() { return p25; }
+    public void setP25(double p25) { this.p25 = p25; }
+
+    public double getP50() { return p50; }
+    public void setP50(double p50) { this.p50 = p50; }
+
+    public double getP75() { return p75; }
+    public void setP75(double p75) { this.p75 = p75; }
+
+    public double getP90() { return p90; }
+    public void setP90(double p90) { this.p90 = p90; }
+
+    public double getP99() { return p99; }
+    public void setP99(double p99) { this.p99 = p99; }
+}
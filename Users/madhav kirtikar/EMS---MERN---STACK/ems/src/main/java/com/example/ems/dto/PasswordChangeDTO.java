@@ -0,0 +1,17 @@
+package com.example.ems.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Frontend {current, new} भेजता है; "new" Java keyword है
+public class PasswordChangeDTO {
+    private String current;
+
+    @JsonProperty("new")
+    private String newPassword;
+
+    public String getCurrent() { return current; }
+    public void setCurrent(String current) { this.current = current; }
+
+    public String getNewPassword() { return newPassword; }
+    public void setNewPassword(String newPassword) { this.newPassword = newPassword; }
+}
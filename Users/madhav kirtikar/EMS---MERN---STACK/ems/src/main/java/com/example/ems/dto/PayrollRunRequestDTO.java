@@ -0,0 +1,15 @@
+package com.example.ems.dto;
+
+import com.example.ems.util.LenientYearMonthDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.time.YearMonth;
+
+public class PayrollRunRequestDTO {
+    // "2025-07" या frontend वाला "June"
+    @JsonDeserialize(using = LenientYearMonthDeserializer.class)
+    private YearMonth month;
+
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+}
@@ -0,0 +1,25 @@
+package com.example.ems.dto;
+
+import java.time.LocalDate;
+
+// Badge reader punch: date न हो तो आज, status न हो तो "Present"
+public class PunchDTO {
+    private Long employeeId;
+    private LocalDate date;
+    private String status;
+
+    public PunchDTO() {}
+
+    public PunchDTO(Long employeeId, LocalDate date, String status) {
+        this.employeeId = employeeId;
+        this.date = date;
+        this.status = status;
+    }
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
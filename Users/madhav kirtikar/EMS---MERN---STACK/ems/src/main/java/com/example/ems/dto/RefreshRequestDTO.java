@@ -0,0 +1,8 @@
+package com.example.ems.dto;
+
+public class RefreshRequestDTO {
+    private String refreshToken;
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+}
@@ -1,20 +1,32 @@
 package com.example.ems.dto;
 
+import java.time.YearMonth;
+
 public class SalaryDTO {
     private Long id;
     private String employeeName;
-    private String month;
+    private YearMonth month;
     private Double amount;
     private String status;
 
+    public SalaryDTO() {}
+
+    public SalaryDTO(Long id, String employeeName, YearMonth month, Double amount, String status) {
+        this.id = id;
+        this.employeeName = employeeName;
+        this.month = month;
+        this.amount = amount;
+        this.status = status;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getEmployeeName() { return employeeName; }
     public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
-    public String getMonth() { return month; }
-    public void setMonth(String month) { this.month = month; }
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
     public Double getAmount() { return amount; }
     public void setAmount(Double amount) { this.amount = amount; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.example.ems.dto;
+
+// "token" नाम frontend के लिए (login के बाद res.data.token पढ़ता है)
+public class TokenResponseDTO {
+    private String token;
+    private String refreshToken;
+    private String tokenType = "Bearer";
+    private long expiresIn;
+
+    public TokenResponseDTO() {}
+
+    public TokenResponseDTO(String token, String refreshToken, long expiresIn) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+    public String getTokenType() { return tokenType; }
+    public void setTokenType(String tokenType) { this.tokenType = tokenType; }
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
+}
@@ -0,0 +1,11 @@
+package com.example.ems.event;
+
+/**
+ * Business state changes जिनके side effects (notifications, aggregates, audit) request के बाहर चलते हैं.
+ * Entity change के transaction में ही outbox row लिखी जाती है (DomainEventOutbox), फिर OutboxDispatcher
+ * उसे at-least-once deliver करता है – handlers idempotent होने चाहिए.
+ * Outbox में type = class का simple name; नया event जोड़ो तो permits में भी जोड़ो.
+ */
+public sealed interface DomainEvent
+        permits LeaveRequested, LeaveStatusChanged, LeaveDeleted, SalaryPaid, EmployeeCreated, EventCreated {
+}
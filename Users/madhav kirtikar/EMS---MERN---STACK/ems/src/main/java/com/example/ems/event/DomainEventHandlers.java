@@ -0,0 +1,70 @@
+package com.example.ems.event;
+
+import com.example.ems.service.AggregateService;
+import com.example.ems.service.NotificationBroadcaster;
+import com.example.ems.service.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxDispatcher से आने वाले events के side effects. हर handler दोबारा चलने पर भी सही रहना चाहिए
+ * (aggregates पूरे recompute होते हैं; notification duplicate हो सकती है, खोती नहीं).
+ */
+@Component
+public class DomainEventHandlers {
+
+    private static final Logger audit = LoggerFactory.getLogger("audit");
+
+    private final AggregateService aggregateService;
+    private final NotificationService notifications;
+
+    public DomainEventHandlers(AggregateService aggregateService, NotificationService notifications) {
+        this.aggregateService = aggregateService;
+        this.notifications = notifications;
+    }
+
+    @Order(0)
+    @EventListener
+    public void audit(DomainEvent event) {
+        audit.info("{}", event);
+    }
+
+    @EventListener
+    public void on(LeaveRequested event) {
+        aggregateService.refreshLeaves(event.employeeId());
+        notifications.publish("Leave requested",
+                event.employeeName() + " requested leave " + event.fromDate() + " to " + event.toDate(), "ADMIN");
+    }
+
+    // Leave decision और salary किसी एक employee की हैं; role "EMPLOYEE" पर भेजने से सारे employees देखते.
+    // Login user का employee से link नहीं है, इसलिए ये सिर्फ admins को
+    @EventListener
+    public void on(LeaveStatusChanged event) {
+        aggregateService.refreshLeaves(event.employeeId());
+        notifications.publish("Leave " + event.status(),
+                "Leave of " + event.employeeName() + " (" + event.fromDate() + " to " + event.toDate() + ") is "
+                        + event.status(),
+                "ADMIN");
+    }
+
+    @EventListener
+    public void on(LeaveDeleted event) {
+        aggregateService.refreshLeaves(event.employeeId());
+    }
+
+    @EventListener
+    public void on(SalaryPaid event) {
+        notifications.publish("Salary paid",
+                "Salary for " + event.month() + " credited to " + event.employeeName(), "ADMIN");
+    }
+
+    @EventListener
+    public void on(EventCreated event) {
+        notifications.publish("New event: " + event.title(),
+                event.date() == null ? event.title() : event.title() + " on " + event.date(),
+                NotificationBroadcaster.ALL);
+    }
+}
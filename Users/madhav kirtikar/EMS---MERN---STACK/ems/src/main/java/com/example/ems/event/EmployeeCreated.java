@@ -0,0 +1,4 @@
+package com.example.ems.event;
+
+public record EmployeeCreated(Long employeeId, String name, String department, String email) implements DomainEvent {
+}
@@ -0,0 +1,6 @@
+package com.example.ems.event;
+
+import java.time.LocalDate;
+
+public record EventCreated(Long eventId, String title, LocalDate date) implements DomainEvent {
+}
@@ -0,0 +1,4 @@
+package com.example.ems.event;
+
+public record LeaveDeleted(Long leaveId, Long employeeId, String employeeName) implements DomainEvent {
+}
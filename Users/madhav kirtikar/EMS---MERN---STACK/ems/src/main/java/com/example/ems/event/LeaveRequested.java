@@ -0,0 +1,7 @@
+package com.example.ems.event;
+
+import java.time.LocalDate;
+
+public record LeaveRequested(Long leaveId, Long employeeId, String employeeName, LocalDate fromDate, LocalDate toDate)
+        implements DomainEvent {
+}
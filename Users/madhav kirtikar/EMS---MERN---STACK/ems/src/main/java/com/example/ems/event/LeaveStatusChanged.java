@@ -0,0 +1,8 @@
+package com.example.ems.event;
+
+import java.time.LocalDate;
+
+// Approve / reject दोनों; status नया value है
+public record LeaveStatusChanged(Long leaveId, Long employeeId, String employeeName, LocalDate fromDate, LocalDate toDate,
+                                 String previousStatus, String status) implements DomainEvent {
+}
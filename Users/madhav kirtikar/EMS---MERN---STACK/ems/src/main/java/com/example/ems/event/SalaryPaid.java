@@ -0,0 +1,7 @@
+package com.example.ems.event;
+
+import java.time.YearMonth;
+
+public record SalaryPaid(Long salaryId, Long employeeId, String employeeName, YearMonth month, Double amount)
+        implements DomainEvent {
+}
@@ -0,0 +1,124 @@
+package com.example.ems.migration;
+
+import com.example.ems.service.TableVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * पुरानी leaves/salaries/employees में नई employee_id/department_id keys names से भरता है.
+ * App ready होने के बाद background thread में id ranges पर छोटे UPDATE ... JOIN चलते हैं, ताकि
+ * एक भी statement ज़्यादा rows lock न करे. सिर्फ unique names जुड़ते हैं; बाकी null रहते हैं और log होते हैं.
+ * Restart पर दोबारा चलाना safe है (सिर्फ null keys छूती हैं).
+ * <p>
+ * Unique names का set शुरू में एक बार temporary table में बनता है (हर batch में employees का group by नहीं).
+ * Temporary table connection की होती है, इसलिए पूरा backfill एक ही connection पर चलता है.
+ */
+@Component
+public class EmployeeReferenceBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeReferenceBackfill.class);
+
+    // जिन employees का name पूरे table में एक ही बार है. Backfill के दौरान बने employees इसमें नहीं – उनकी
+    // leaves/salaries EmployeeReferenceResolver save पर ही जोड़ता है
+    private static final String UNIQUE_EMPLOYEES = "backfill_unique_employees";
+    private static final String CREATE_UNIQUE_EMPLOYEES = "create temporary table " + UNIQUE_EMPLOYEES
+            + " (primary key (name)) select name, min(id) as id from employees"
+            + " where name is not null group by name having count(*) = 1";
+
+    private record Backfill(String table, String sql) {}
+
+    private static final List<Backfill> BACKFILLS = List.of(
+            new Backfill("leaves", "update leaves t join " + UNIQUE_EMPLOYEES + " u on u.name = t.name"
+                    + " set t.employee_id = u.id where t.employee_id is null and t.id > ? and t.id <= ?"),
+            // ignore: जिस employee की उस month की salary पहले से जुड़ी है (uk_salaries_employee_month), वो row unlinked रहती है
+            new Backfill("salaries", "update ignore salaries t join " + UNIQUE_EMPLOYEES + " u on u.name = t.employee_name"
+                    + " set t.employee_id = u.id where t.employee_id is null and t.id > ? and t.id <= ?"),
+            new Backfill("employees", "update employees t join departments d on d.name = t.department"
+                    + " set t.department_id = d.id where t.department_id is null and t.id > ? and t.id <= ?"));
+
+    private final JdbcTemplate jdbc;
+    private final TableVersions tableVersions;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+
+    public EmployeeReferenceBackfill(JdbcTemplate jdbc, TableVersions tableVersions,
+                                     @Value("${app.migration.references.enabled:true}") boolean enabled,
+                                     @Value("${app.migration.references.batch-size:500}") int batchSize,
+                                     @Value("${app.migration.references.pause:50ms}") Duration pause) {
+        this.jdbc = jdbc;
+        this.tableVersions = tableVersions;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::runAll, "reference-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void runAll() {
+        try {
+            jdbc.execute((ConnectionCallback<Void>) con -> {
+                runAll(new JdbcTemplate(new SingleConnectionDataSource(con, true)));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Reference backfill stopped: {}", e.getMessage());
+        }
+    }
+
+    private void runAll(JdbcTemplate session) {
+        session.execute(CREATE_UNIQUE_EMPLOYEES);
+        try {
+            for (Backfill backfill : BACKFILLS) {
+                try {
+                    run(session, backfill);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (DataAccessException e) {
+                    log.warn("Backfill of {} stopped: {}", backfill.table(), e.getMessage());
+                }
+            }
+        } finally {
+            session.execute("drop temporary table if exists " + UNIQUE_EMPLOYEES);
+        }
+    }
+
+    private void run(JdbcTemplate session, Backfill backfill) throws InterruptedException {
+        Long maxId = session.queryForObject("select coalesce(max(id), 0) from " + backfill.table(), Long.class);
+        long updated = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            updated += session.update(backfill.sql(), from, from + batchSize);
+            Thread.sleep(pause.toMillis());
+        }
+        if (updated > 0) {
+            tableVersions.bump(backfill.table());
+        }
+        String keyColumn = "employees".equals(backfill.table()) ? "department_id" : "employee_id";
+        Long unresolved = session.queryForObject(
+                "select count(*) from " + backfill.table() + " where " + keyColumn + " is null", Long.class);
+        if (updated > 0 || unresolved > 0) {
+            log.info("Backfilled {}.{}: {} rows linked, {} still unlinked (unknown or duplicate name)",
+                    backfill.table(), keyColumn, updated, unresolved);
+        }
+    }
+}
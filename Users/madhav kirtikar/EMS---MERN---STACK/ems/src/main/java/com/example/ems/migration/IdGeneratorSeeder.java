@@ -0,0 +1,58 @@
+package com.example.ems.migration;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Employee/Salary पहले IDENTITY से ids लेते थे. id_generator की row को max(id) से आगे रखना ज़रूरी है,
+ * वरना pooled generator पुरानी ids दोबारा दे देगा. Startup पर (schema update के बाद) एक बार चलता है.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdGeneratorSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    // @TableGenerator के allocationSize के बराबर
+    static final int ALLOCATION_SIZE = 50;
+
+    // pkColumnValue == table name
+    private static final List<String> TABLES = List.of("employees", "salaries");
+
+    private final JdbcTemplate jdbc;
+
+    public IdGeneratorSeeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @PostConstruct
+    void seed() {
+        for (String table : TABLES) {
+            Long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            long floor = maxId + ALLOCATION_SIZE + 1;
+            int updated = jdbc.update(
+                    "update id_generator set next_val = ? where sequence_name = ? and next_val < ?", floor, table, floor);
+            if (updated > 0) {
+                log.info("Moved id_generator[{}] past existing ids to {}", table, floor);
+                continue;
+            }
+            Integer rows = jdbc.queryForObject(
+                    "select count(*) from id_generator where sequence_name = ?", Integer.class, table);
+            if (rows == 0) {
+                try {
+                    jdbc.update("insert into id_generator (sequence_name, next_val) values (?, ?)", table, floor);
+                    log.info("Seeded id_generator[{}] at {}", table, floor);
+                } catch (DuplicateKeyException e) {
+                    // दूसरे node ने पहले seed कर दिया
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.ems.migration;
+
+import com.example.ems.service.PhotoStore;
+import com.example.ems.service.TableVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * employees.photo में inline पड़ी base64 images (data URI या plain base64) को PhotoStore में निकालता है,
+ * photo_hash भरता है और पुराना column null कर देता है ताकि row फिर से छोटी हो.
+ * Photos बड़ी होती हैं, इसलिए batches छोटे हैं. "Photo URL" वाली rows (http...) feature का हिस्सा हैं, select ही नहीं होतीं;
+ * जो decode न हो वो वैसे ही छोड़ी जाती हैं और log होती हैं.
+ * Restart पर दोबारा चलाना safe है (सिर्फ photo_hash null वाली rows).
+ */
+@Component
+public class InlinePhotoExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(InlinePhotoExtractor.class);
+
+    private static final String SELECT = "select id, photo from employees"
+            + " where id > ? and photo is not null and photo <> '' and photo not like 'http%' and photo_hash is null"
+            + " order by id limit ?";
+    // Version बढ़ाओ: JSON बदला है (photo अब URL), पुराने ETags match नहीं होने चाहिए
+    private static final String UPDATE = "update employees set photo_hash = ?, photo = null, version = version + 1"
+            + " where id = ? and photo_hash is null";
+
+    private final JdbcTemplate jdbc;
+    private final PhotoStore photoStore;
+    private final TableVersions tableVersions;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+
+    public InlinePhotoExtractor(JdbcTemplate jdbc, PhotoStore photoStore, TableVersions tableVersions,
+                                @Value("${app.migration.photos.enabled:true}") boolean enabled,
+                                @Value("${app.migration.photos.batch-size:20}") int batchSize,
+                                @Value("${app.migration.photos.pause:50ms}") Duration pause) {
+        this.jdbc = jdbc;
+        this.photoStore = photoStore;
+        this.tableVersions = tableVersions;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::run, "photo-extractor");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void run() {
+        long lastId = 0;
+        int extracted = 0;
+        int skipped = 0;
+        try {
+            while (true) {
+                List<Map<String, Object>> rows = jdbc.queryForList(SELECT, lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                int before = extracted;
+                for (Map<String, Object> row : rows) {
+                    long id = ((Number) row.get("id")).longValue();
+                    lastId = id;
+                    byte[] bytes = decode(String.valueOf(row.get("photo")));
+                    if (bytes == null) {
+                        skipped++;
+                        continue;
+                    }
+                    try {
+                        extracted += jdbc.update(UPDATE, photoStore.put(bytes), id);
+                    } catch (ResponseStatusException e) {
+                        // image नहीं है या max-size से बड़ी
+                        skipped++;
+                        log.warn("employees id={} photo not extracted: {}", id, e.getReason());
+                    }
+                }
+                if (extracted > before) {
+                    tableVersions.bump("employees");
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException | IOException e) {
+            // नया install: legacy photo column है ही नहीं
+            log.debug("Photo extraction stopped: {}", e.getMessage());
+        }
+        if (extracted > 0 || skipped > 0) {
+            log.info("Extracted {} inline employee photos, {} left in employees.photo (URL or not an image)",
+                    extracted, skipped);
+        }
+    }
+
+    // "data:image/png;base64,...." या plain base64; URL हो तो null
+    static byte[] decode(String value) {
+        String v = value.trim();
+        if (v.startsWith("data:")) {
+            int comma = v.indexOf(',');
+            if (comma < 0 || !v.substring(0, comma).endsWith(";base64")) {
+                return null;
+            }
+            v = v.substring(comma + 1);
+        } else if (v.startsWith("http://") || v.startsWith("https://") || v.startsWith("/")) {
+            return null;
+        }
+        try {
+            return Base64.getMimeDecoder().decode(v);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.ems.migration;
+
+import com.example.ems.service.TableVersions;
+import com.example.ems.util.LenientDates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * पुराने varchar date/month columns को नए typed columns (start_date, event_date, pay_month ...) में
+ * online copy करता है. App ready होने के बाद background thread में id order से छोटे batches चलते हैं,
+ * इसलिए requests block नहीं होतीं. जो rows पहले से भरी हैं वो skip होती हैं, तो restart पर दोबारा चलाना safe है.
+ * पुराने columns drop नहीं होते - verify करने के बाद हाथ से हटाओ.
+ */
+@Component
+public class LegacyTemporalMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyTemporalMigrator.class);
+
+    private record ColumnCopy(String table, String legacyColumn, String typedColumn, Function<String, Object> parser) {}
+
+    private final JdbcTemplate jdbc;
+    private final TableVersions tableVersions;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+    private final List<ColumnCopy> copies;
+
+    public LegacyTemporalMigrator(JdbcTemplate jdbc, TableVersions tableVersions,
+                                  @Value("${app.migration.temporal.enabled:true}") boolean enabled,
+                                  @Value("${app.migration.temporal.batch-size:500}") int batchSize,
+                                  @Value("${app.migration.temporal.pause:50ms}") Duration pause) {
+        this.jdbc = jdbc;
+        this.tableVersions = tableVersions;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        // सिर्फ month name ("June") वाली salaries: migration चलने के month तक की सबसे हाल की occurrence
+        YearMonth currentMonth = YearMonth.now();
+        this.copies = List.of(
+                new ColumnCopy("leaves", "from_date", "start_date", LenientDates::parseDate),
+                new ColumnCopy("leaves", "to_date", "end_date", LenientDates::parseDate),
+                new ColumnCopy("events", "date", "event_date", LenientDates::parseDate),
+                new ColumnCopy("attendance", "date", "attendance_date", LenientDates::parseDate),
+                new ColumnCopy("notification", "date", "created_at", LenientDates::parseDateTime),
+                new ColumnCopy("salaries", "month", "pay_month", v -> {
+                    YearMonth month = LenientDates.parseYearMonth(v, currentMonth);
+                    return month == null ? null : month.atDay(1);
+                }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::runAll, "temporal-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void runAll() {
+        for (ColumnCopy copy : copies) {
+            try {
+                migrate(copy);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException e) {
+                // legacy column verify के बाद हाथ से drop हो चुका
+                log.debug("Skipping {}.{}: {}", copy.table(), copy.legacyColumn(), e.getMessage());
+            }
+        }
+    }
+
+    private void migrate(ColumnCopy copy) throws InterruptedException {
+        String select = "select id, `" + copy.legacyColumn() + "` as v from " + copy.table()
+                + " where id > ? and `" + copy.typedColumn() + "` is null and `" + copy.legacyColumn() + "` is not null"
+                + " order by id limit ?";
+        String update = "update " + copy.table() + " set `" + copy.typedColumn() + "` = ? where id = ? and `"
+                + copy.typedColumn() + "` is null";
+
+        long lastId = 0;
+        int copied = 0;
+        int unparseable = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbc.queryForList(select, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                lastId = id;
+                String raw = String.valueOf(row.get("v"));
+                Object value = copy.parser().apply(raw);
+                if (value == null) {
+                    unparseable++;
+                    log.warn("{}.{} id={} value '{}' parse नहीं हुई, typed column null छोड़ा",
+                            copy.table(), copy.legacyColumn(), id, raw);
+                    continue;
+                }
+                args.add(new Object[] {value, id});
+            }
+            copied += apply(copy, update, args);
+            Thread.sleep(pause.toMillis());
+        }
+        if (copied > 0) {
+            tableVersions.bump(copy.table());
+        }
+        if (copied > 0 || unparseable > 0) {
+            log.info("Migrated {}.{} -> {}: {} rows copied, {} unparseable",
+                    copy.table(), copy.legacyColumn(), copy.typedColumn(), copied, unparseable);
+        }
+    }
+
+    private int apply(ColumnCopy copy, String update, List<Object[]> args) {
+        if (args.isEmpty()) {
+            return 0;
+        }
+        try {
+            return jdbc.batchUpdate(update, args).length;
+        } catch (DuplicateKeyException e) {
+            // attendance: एक ही दिन की दो पुरानी rows (अलग-अलग date formats) unique key से टकराती हैं - row by row, duplicate छोड़ दो
+            int count = 0;
+            for (Object[] a : args) {
+                try {
+                    count += jdbc.update(update, a);
+                } catch (DuplicateKeyException dup) {
+                    log.warn("{} id={} duplicate {} = {}, skipped", copy.table(), a[1], copy.typedColumn(), a[0]);
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -2,24 +2,35 @@
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "admins")
-public class Admin {
+public class Admin implements Versioned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(unique = true, nullable = false)
     private String username;
 
     @Column(nullable = false, unique = true)
     private String email;
 
+    // Settings page का display name; null हो तो username दिखता है
+    private String name;
+
     @Column(nullable = false)
     private String password;
 
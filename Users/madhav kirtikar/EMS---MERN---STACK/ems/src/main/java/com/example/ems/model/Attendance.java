@@ -1,16 +1,41 @@
  package com.example.ems.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDate;
 
 @Entity
 @Data
+@Table(name = "attendance",
+    uniqueConstraints =
+        // एक employee का एक दिन में एक ही row – punch writer इसी key पर upsert करता है; (employee, date) lookups भी इसी से
+        @UniqueConstraint(name = "uk_attendance_employee_day", columnNames = {"employee_id", "attendance_date"}),
+    indexes = @Index(name = "idx_attendance_date", columnList = "attendance_date"))
 public class Attendance {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private Long employeeId; // या @ManyToOne से relation बनाओ अगर चाहिए
-    private String date;
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    // Read-only side. DB constraint जानबूझकर नहीं: punch writer JDBC batch में upsert करता है और
+    // एक गलत employeeId पूरे batch को fail कर देता. uk_attendance_employee_day (employee_id, ...) ही lookup index है
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Employee employee;
+
+    // पुराने varchar date column से LegacyTemporalMigrator भरता है
+    @Column(name = "attendance_date")
+    private LocalDate date;
+
     private String status; // Present, Absent, Half-day, Leave etc.
 }
@@ -0,0 +1,32 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Employee-month rollup – हर attendance flush के बाद touched employees के लिए recompute होता है
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "attendance_monthly_summary",
+    uniqueConstraints = @UniqueConstraint(name = "uk_att_summary_employee_month", columnNames = {"employee_id", "month"}),
+    indexes = @Index(name = "idx_att_summary_month_department", columnList = "month, department"))
+public class AttendanceSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false, length = 7)
+    private String month; // yyyy-MM
+
+    private String department;
+
+    private int presentDays;
+    private int absentDays;
+    private int halfDays;
+    private int leaveDays;
+}
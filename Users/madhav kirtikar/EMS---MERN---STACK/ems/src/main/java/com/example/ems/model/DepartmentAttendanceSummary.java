@@ -0,0 +1,31 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Department-month rollup: dashboard query O(departments) रहती है
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "department_attendance_summary",
+    uniqueConstraints = @UniqueConstraint(name = "uk_dept_att_summary_department_month", columnNames = {"department", "month"}),
+    indexes = @Index(name = "idx_dept_att_summary_month_department", columnList = "month, department"))
+public class DepartmentAttendanceSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String department;
+
+    @Column(nullable = false, length = 7)
+    private String month; // yyyy-MM
+
+    private int employees;
+    private int presentDays;
+    private int absentDays;
+    private int halfDays;
+    private int leaveDays;
+}
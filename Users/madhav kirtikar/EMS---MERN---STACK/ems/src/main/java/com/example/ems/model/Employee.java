@@ -1,34 +1,111 @@
  package com.example.ems.model;
 
+import com.example.ems.util.PhotoUrls;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "employees")
-public class Employee {
+@Table(name = "employees", indexes = {
+    // keyset listing filters: (filter column, id) ताकि "where x = ? and id > ? order by id" index से ही निकल जाए
+    @Index(name = "idx_employees_department_id", columnList = "department, id"),
+    @Index(name = "idx_employees_department_ref", columnList = "department_id, id"),
+    @Index(name = "idx_employees_position_id", columnList = "position, id"),
+    @Index(name = "idx_employees_gender_id", columnList = "gender, id"),
+    @Index(name = "idx_employees_age", columnList = "age"),
+    @Index(name = "idx_employees_performance", columnList = "performance"),
+    // name -> id resolve (EmployeeReferenceResolver); id PK से index में ही है
+    @Index(name = "idx_employees_name", columnList = "name")
+})
+public class Employee implements Versioned {
 
+    // IDENTITY insert JDBC batching बंद कर देता है; pooled table generator 50 ids एक बार में reserve करता है
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+    @TableGenerator(name = "employee_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "employees", allocationSize = 50)
     private Long id;
 
+    // Optimistic locking + ETag; पुरानी rows 0 से शुरू
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @NotBlank(message = "name is required")
     @Column(nullable = false)
     private String name;
 
     private String department;
+
+    // department name से EmployeeReferenceResolver भरता है (frontend सिर्फ name भेजता है)
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_employees_department"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Department departmentRef;
+
     private String position;
 
+    @Email(message = "email is not valid")
     @Column(unique = true)
     private String email;
 
     private String phone;
     private String address;
     private String salary;
+
+    // Settings से BCrypt hash आता है – JSON में सिर्फ लिखा जाता है, किसी response (या browser cache) में नहीं
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
-    private String photo;
+
+    // Photo file PhotoStore में है, row में सिर्फ उसका SHA-256; सिर्फ /api/employees/{id}/photo upload से बदलता है
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "photo_hash", length = 64)
+    private String photoHash;
+
+    // Form का "Photo URL" (legacy employees.photo). Image files upload endpoint से PhotoStore में जाती हैं, यहाँ नहीं
+    @JsonIgnore
+    @Size(max = 255, message = "photo URL is too long")
+    @Pattern(regexp = "(https?://|/)\\S+", message = "photo must be a URL; upload image files to /api/employees/{id}/photo")
+    @Column(name = "photo")
+    private String photoUrl;
+
     private String gender;
     private Integer age;
     private Double performance;
+
+    // Frontend "photo" को सीधे <img src> में डालता है: upload हुई photo, वरना Photo URL
+    @JsonProperty("photo")
+    public String getPhoto() {
+        return PhotoUrls.of(photoHash, photoUrl);
+    }
+
+    // Blank = URL हटाओ. हमारा ही दिया store URL वापस आए (PUT में पूरा object) तो कुछ नहीं बदलता
+    @JsonProperty("photo")
+    public void setPhoto(String photo) {
+        if (PhotoUrls.isStoreUrl(photo)) {
+            return;
+        }
+        this.photoUrl = photo == null || photo.isBlank() ? null : photo.trim();
+    }
 }
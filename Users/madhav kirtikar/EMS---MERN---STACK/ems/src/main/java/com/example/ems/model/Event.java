@@ -2,19 +2,35 @@
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
-public class Event {
+@Table(name = "events", indexes = @Index(name = "idx_events_event_date", columnList = "event_date"))
+public class Event implements Versioned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     private String title;
     private String description;
-    private String date;
+    // पुराने varchar date column से LegacyTemporalMigrator भरता है
+    @Column(name = "event_date")
+    private LocalDate date;
 }
@@ -1,23 +1,62 @@
  package com.example.ems.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "leaves")
-public class Leave {
+@Table(name = "leaves", indexes = {
+    // "pending leaves overlapping next week" जैसी queries
+    @Index(name = "idx_leaves_status_start", columnList = "status, start_date"),
+    @Index(name = "idx_leaves_start_end", columnList = "start_date, end_date"),
+    @Index(name = "idx_leaves_employee_start", columnList = "employee_id, start_date"),
+    @Index(name = "idx_leaves_name", columnList = "name")
+})
+public class Leave implements Versioned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Display के लिए name/department copy रहते हैं; lookups employeeId पर होते हैं (पुरानी rows EmployeeReferenceBackfill भरता है)
     private String name;
     private String department;
-    private String fromDate;
-    private String toDate;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    // Read-only side: column employeeId से लिखा जाता है. Employee delete होने पर leave history बची रहती है
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_leaves_employee"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Employee employee;
+
+    // पुराने varchar from_date/to_date से LegacyTemporalMigrator भरता है
+    @Column(name = "start_date")
+    private LocalDate fromDate;
+
+    @Column(name = "end_date")
+    private LocalDate toDate;
+
     private String reason;
 
     @Column(nullable = false)
@@ -0,0 +1,36 @@
+package com.example.ems.model;
+
+import java.util.Locale;
+
+/**
+ * Leave workflow: PENDING -> APPROVED | REJECTED | CANCELLED, और approved leave भी CANCELLED हो सकती है.
+ * REJECTED / CANCELLED final हैं. Column में String ही रहता है; नई writes हमेशा {@link #name()} लिखती हैं.
+ */
+public enum LeaveStatus {
+    PENDING, APPROVED, REJECTED, CANCELLED;
+
+    public boolean canMoveTo(LeaveStatus next) {
+        return switch (this) {
+            case PENDING -> next != PENDING;
+            case APPROVED -> next == CANCELLED;
+            case REJECTED, CANCELLED -> false;
+        };
+    }
+
+    // Balance और overlap check में सिर्फ ये गिनी जाती हैं
+    public boolean isActive() {
+        return this == PENDING || this == APPROVED;
+    }
+
+    // पुरानी rows में "Pending" / "Approved" भी हैं; unknown value हो तो null
+    public static LeaveStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
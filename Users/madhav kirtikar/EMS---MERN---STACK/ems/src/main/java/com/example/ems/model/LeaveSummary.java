@@ -0,0 +1,36 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Employee-year leave rollup – उस employee की हर leave write पर recompute होता है. Key employee_id; name display के लिए
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "leave_yearly_summary",
+    uniqueConstraints = @UniqueConstraint(name = "uk_leave_summary_employee_year", columnNames = {"employee_id", "year"}),
+    indexes = {
+        @Index(name = "idx_leave_summary_year_department", columnList = "year, department"),
+        @Index(name = "idx_leave_summary_year_employee", columnList = "year, employee_name")
+    })
+public class LeaveSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "employee_name", nullable = false)
+    private String employeeName;
+
+    @Column(nullable = false)
+    private int year;
+
+    private String department;
+
+    private int approvedDays;
+    private int pendingDays;
+}
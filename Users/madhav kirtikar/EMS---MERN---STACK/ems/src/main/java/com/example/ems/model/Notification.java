@@ -3,8 +3,15 @@
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
+@Table(name = "notification", indexes = {
+    @Index(name = "idx_notification_role_created", columnList = "target_role, created_at"),
+    // recent / SSE replay: role in (...) order by id
+    @Index(name = "idx_notification_role_id", columnList = "target_role, id")
+})
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,6 +19,10 @@ public class Notification {
 
     private String title;
     private String message;
-    private String date; // या LocalDateTime
+
+    // पुराने varchar date column से LegacyTemporalMigrator भरता है
+    @Column(name = "created_at")
+    private LocalDateTime date;
+
     private String targetRole; // ADMIN, EMPLOYEE, ALL
 }
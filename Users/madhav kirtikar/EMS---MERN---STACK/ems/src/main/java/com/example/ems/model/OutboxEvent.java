@@ -0,0 +1,48 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox: domain event उसी transaction में लिखा जाता है जिसमें entity बदली.
+ * OutboxDispatcher PENDING rows उठाता है; availableAt claim lease और retry backoff दोनों के काम आता है.
+ */
+@Entity
+@Data
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id"))
+public class OutboxEvent {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, length = 20)
+    private String status = PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    private LocalDateTime processedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
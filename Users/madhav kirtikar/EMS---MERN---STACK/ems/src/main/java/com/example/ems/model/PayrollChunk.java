@@ -0,0 +1,32 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Run का checkpoint: employee id range. Chunk की salaries और DONE mark एक ही transaction में commit होते हैं
+@Entity
+@Data
+@Table(name = "payroll_chunk", indexes = @Index(name = "idx_payroll_chunk_run_status_chunk", columnList = "run_id, status, chunk_no"))
+public class PayrollChunk {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    private int chunkNo;
+
+    @Column(nullable = false)
+    private Long firstEmployeeId;
+
+    @Column(nullable = false)
+    private Long lastEmployeeId;
+
+    @Column(nullable = false, length = 20)
+    private String status = PENDING;
+}
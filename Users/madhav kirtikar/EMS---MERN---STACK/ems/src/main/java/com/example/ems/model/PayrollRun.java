@@ -0,0 +1,50 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+// एक month का payroll run. Progress counters chunks commit होने पर bulk update से बढ़ते हैं
+@Entity
+@Data
+@Table(name = "payroll_run",
+        indexes = @Index(name = "idx_payroll_run_month_status", columnList = "pay_month, status"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_payroll_run_active_month", columnNames = "active_month"))
+public class PayrollRun {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Convert(converter = YearMonthAttributeConverter.class)
+    @Column(name = "pay_month", nullable = false)
+    private YearMonth month;
+
+    @Column(nullable = false, length = 20)
+    private String status = RUNNING;
+
+    // RUNNING रहते = month, खत्म होने पर null. Unique key: एक month का दूसरा run start ही नहीं होता
+    @Convert(converter = YearMonthAttributeConverter.class)
+    @Column(name = "active_month")
+    private YearMonth activeMonth;
+
+    private int totalEmployees;
+    private int processedEmployees;
+    // जिनकी salary पहले से थी (manual entry या पिछला run) – दोबारा नहीं बनती
+    private int skippedEmployees;
+    private int createdSalaries;
+    private int totalChunks;
+    private int completedChunks;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
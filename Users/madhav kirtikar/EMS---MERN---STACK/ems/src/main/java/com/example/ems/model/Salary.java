@@ -1,21 +1,72 @@
  package com.example.ems.model;
 
+import com.example.ems.util.LenientYearMonthDeserializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.YearMonth;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "salaries")
-public class Salary {
+@Table(name = "salaries",
+    // एक employee की एक month में एक ही salary (payroll run और manual add दोनों)
+    uniqueConstraints = @UniqueConstraint(name = "uk_salaries_employee_month", columnNames = {"employee_id", "pay_month"}),
+    indexes = {
+        // pay_month = ? पर status-wise sum (dashboard) index से ही
+        @Index(name = "idx_salaries_month_status_amount", columnList = "pay_month, status, amount"),
+        @Index(name = "idx_salaries_employee_name", columnList = "employee_name")
+    })
+public class Salary implements Versioned {
 
+    // IDENTITY insert JDBC batching बंद कर देता है; pooled table generator 50 ids एक बार में reserve करता है
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "salary_id")
+    @TableGenerator(name = "salary_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "salaries", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @NotBlank(message = "employeeName is required")
     private String employeeName;
-    private String month;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    // Read-only side: column employeeId से लिखा जाता है. Employee delete होने पर salary history बची रहती है
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_salaries_employee"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Employee employee;
+
+    // DATE (महीने की 1 तारीख) – पुराने varchar month से LegacyTemporalMigrator भरता है
+    @NotNull(message = "month is required")
+    @Convert(converter = YearMonthAttributeConverter.class)
+    @JsonDeserialize(using = LenientYearMonthDeserializer.class)
+    @Column(name = "pay_month")
+    private YearMonth month;
+
+    @NotNull(message = "amount is required")
+    @PositiveOrZero(message = "amount must not be negative")
     private Double amount;
 
     @Column(nullable = false)
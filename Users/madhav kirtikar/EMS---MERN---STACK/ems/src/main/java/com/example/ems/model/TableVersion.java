@@ -0,0 +1,22 @@
+package com.example.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// List endpoints का collection ETag/Last-Modified: हर committed write पर उस table का version +1 (TableVersions)
+@Entity
+@Data
+@Table(name = "table_versions")
+public class TableVersion {
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
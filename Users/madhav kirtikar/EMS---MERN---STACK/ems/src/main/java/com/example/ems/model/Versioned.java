@@ -0,0 +1,8 @@
+package com.example.ems.model;
+
+/**
+ * {@code @Version} वाली entities. ETag इसी version से बनता है, और If-Match इसी से compare होता है.
+ */
+public interface Versioned {
+    Long getVersion();
+}
@@ -0,0 +1,22 @@
+package com.example.ems.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// YearMonth को महीने की पहली तारीख (DATE column) की तरह store करता है – range queries index से चलती हैं
+@Converter
+public class YearMonthAttributeConverter implements AttributeConverter<YearMonth, LocalDate> {
+
+    @Override
+    public LocalDate convertToDatabaseColumn(YearMonth month) {
+        return month == null ? null : month.atDay(1);
+    }
+
+    @Override
+    public YearMonth convertToEntityAttribute(LocalDate date) {
+        return date == null ? null : YearMonth.from(date);
+    }
+}
@@ -3,6 +3,8 @@
 import com.example.ems.model.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface AdminRepository extends JpaRepository<Admin, Long> {
-    // Optional custom methods like findByUsername() can be added
+    Optional<Admin> findByUsername(String username);
 }
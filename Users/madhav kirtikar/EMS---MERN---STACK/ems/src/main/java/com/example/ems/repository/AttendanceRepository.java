@@ -0,0 +1,10 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.Attendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+    List<Attendance> findByEmployeeIdOrderByDateDesc(Long employeeId);
+}
@@ -0,0 +1,13 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.AttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummary, Long> {
+    Optional<AttendanceSummary> findByEmployeeIdAndMonth(Long employeeId, String month);
+
+    List<AttendanceSummary> findByEmployeeIdOrderByMonthDesc(Long employeeId);
+}
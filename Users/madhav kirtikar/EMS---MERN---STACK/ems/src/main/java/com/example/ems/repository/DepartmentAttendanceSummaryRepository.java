@@ -0,0 +1,10 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.DepartmentAttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DepartmentAttendanceSummaryRepository extends JpaRepository<DepartmentAttendanceSummary, Long> {
+    List<DepartmentAttendanceSummary> findByMonthOrderByDepartment(String month);
+}
@@ -1,8 +1,17 @@
  package com.example.ems.repository;
 
 import com.example.ems.model.Department;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import java.util.List;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
-    // Optional methods here
+    // Hibernate query cache: ids query cache में, entities second-level cache में
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Department> findAll();
 }
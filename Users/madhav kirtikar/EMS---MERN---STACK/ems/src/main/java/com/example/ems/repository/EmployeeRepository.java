@@ -1,8 +1,107 @@
  package com.example.ems.repository;
 
+import com.example.ems.dto.EmployeeDTO;
 import com.example.ems.model.Employee;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     // Optional: List<Employee> findByDepartmentName(String departmentName);
+
+    // Projection: rows सीधे EmployeeDTO में map होती हैं, persistence context में managed नहीं होतीं.
+    // password select नहीं होता; photo सिर्फ hash/URL (छोटे columns). String salary query में ही Double में cast होती है.
+    String SUMMARY_SELECT = """
+        select new com.example.ems.dto.EmployeeDTO(
+            e.id, e.name, e.department, e.position, e.email, e.phone, e.address,
+            cast(e.salary as Double), e.photoHash, e.photoUrl, e.gender, e.age, e.performance)
+        from Employee e
+        """;
+
+    @Transactional(readOnly = true)
+    @Query(SUMMARY_SELECT + "order by e.id asc")
+    List<EmployeeDTO> findAllSummaries();
+
+    // Employee login का username उसका email है
+    Optional<Employee> findByEmail(String email);
+
+    @Query("select e.id from Employee e where e.name = :name")
+    List<Long> findIdsByName(@Param("name") String name);
+
+    // [name, id] pairs
+    @Query("select e.name, e.id from Employee e where e.name in :names")
+    List<Object[]> findIdsByNames(@Param("names") Collection<String> names);
+
+    // Dashboard: [department, headcount]
+    @Query("select e.department, count(e) from Employee e group by e.department order by e.department")
+    List<Object[]> countByDepartment();
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Export: forward-only cursor (MySQL useCursorFetch + fetch size), caller transaction में consume करे
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SUMMARY_SELECT + "where e.id > :afterId order by e.id asc")
+    Stream<EmployeeDTO> streamSummariesAfter(@Param("afterId") Long afterId);
+
+    // Keyset page, ascending: सिर्फ id > cursor वाली rows, offset scan नहीं होता
+    @Transactional(readOnly = true)
+    @Query(SUMMARY_SELECT + """
+        where e.id > :afterId
+          and (:department is null or e.department = :department)
+          and (:position is null or e.position = :position)
+          and (:gender is null or e.gender = :gender)
+          and (:minAge is null or e.age >= :minAge)
+          and (:maxAge is null or e.age <= :maxAge)
+          and (:minPerformance is null or e.performance >= :minPerformance)
+          and (:maxPerformance is null or e.performance <= :maxPerformance)
+        order by e.id asc
+        """)
+    List<EmployeeDTO> findPageAfter(@Param("afterId") Long afterId,
+                                    @Param("department") String department,
+                                    @Param("position") String position,
+                                    @Param("gender") String gender,
+                                    @Param("minAge") Integer minAge,
+                                    @Param("maxAge") Integer maxAge,
+                                    @Param("minPerformance") Double minPerformance,
+                                    @Param("maxPerformance") Double maxPerformance,
+                                    Limit limit);
+
+    // Keyset page, descending: id < cursor
+    @Transactional(readOnly = true)
+    @Query(SUMMARY_SELECT + """
+        where e.id < :beforeId
+          and (:department is null or e.department = :department)
+          and (:position is null or e.position = :position)
+          and (:gender is null or e.gender = :gender)
+          and (:minAge is null or e.age >= :minAge)
+          and (:maxAge is null or e.age <= :maxAge)
+          and (:minPerformance is null or e.performance >= :minPerformance)
+          and (:maxPerformance is null or e.performance <= :maxPerformance)
+        order by e.id desc
+        """)
+    List<EmployeeDTO> findPageBefore(@Param("beforeId") Long beforeId,
+                                     @Param("department") String department,
+                                     @Param("position") String position,
+                                     @Param("gender") String gender,
+                                     @Param("minAge") Integer minAge,
+                                     @Param("maxAge") Integer maxAge,
+                                     @Param("minPerformance") Double minPerformance,
+                                     @Param("maxPerformance") Double maxPerformance,
+                                     Limit limit);
+
+    // Employee row lock: उसी employee की दूसरी leave request (किसी भी node पर) commit तक रुकती है
+    @Query(value = "select id from employees where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
 }
@@ -1,8 +1,25 @@
  package com.example.ems.repository;
 
 import com.example.ems.model.Event;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
     // Optional: List<Event> findByTitleContaining(String keyword);
+
+    // Hibernate query cache: ids query cache में, entities second-level cache में
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Event> findAll();
+
+    // idx_events_event_date पर range scan
+    List<Event> findByDateBetweenOrderByDateAsc(LocalDate from, LocalDate to);
+
+    List<Event> findTop5ByDateGreaterThanEqualOrderByDateAsc(LocalDate from);
 }
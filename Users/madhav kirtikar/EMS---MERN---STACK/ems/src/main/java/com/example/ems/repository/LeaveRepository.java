@@ -1,10 +1,74 @@
  package com.example.ems.repository;
 
+import com.example.ems.dto.LeaveDTO;
 import com.example.ems.model.Leave;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LeaveRepository extends JpaRepository<Leave, Long> {
-    List<Leave> findByEmployeeName(String employeeName);
+    // Column collation case-insensitive है, तो पुराने "Pending" भी गिने जाते हैं; upper() नहीं, ताकि
+    // idx_leaves_status_start से index-only count हो
+    long countByStatus(String status);
+
+    // idx_leaves_employee_start; employee उसी query में join होता है, हर row पर अलग select नहीं
+    @EntityGraph(attributePaths = "employee")
+    List<Leave> findByEmployeeIdOrderByFromDateDesc(Long employeeId);
+
+    // Export: forward-only cursor, rows DTO में आती हैं इसलिए persistence context नहीं भरता
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.example.ems.dto.LeaveDTO(l.id, l.name, l.department, l.fromDate, l.toDate, l.reason, l.status)
+        from Leave l
+        where l.id > :afterId
+        order by l.id asc
+        """)
+    Stream<LeaveDTO> streamAfter(@Param("afterId") Long afterId);
+
+    // [from, to] से overlap करने वाली leaves; idx_leaves_status_start / idx_leaves_start_end range scan करते हैं.
+    // पुरानी rows में end_date null हो सकता है – तब एक दिन की leave (findActiveForEmployee जैसा)
+    @Query("""
+        select l from Leave l
+        where l.fromDate <= :to and coalesce(l.toDate, l.fromDate) >= :from
+          and (:status is null or l.status = :status)
+        order by l.fromDate asc
+        """)
+    List<Leave> findOverlapping(@Param("from") LocalDate from,
+                                @Param("to") LocalDate to,
+                                @Param("status") String status);
+
+    // Employee की PENDING/APPROVED leaves जो [from, to] से overlap करती हैं; idx_leaves_employee_start range scan.
+    // पुरानी rows में end_date null हो सकता है – तब एक दिन की leave
+    @Query("""
+        select l from Leave l
+        where l.employeeId = :employeeId
+          and l.fromDate <= :to and coalesce(l.toDate, l.fromDate) >= :from
+          and l.status in ('PENDING', 'APPROVED')
+        """)
+    List<Leave> findActiveForEmployee(@Param("employeeId") Long employeeId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    // Bulk transition: select for update, ताकि check और UPDATE के बीच कोई और इन rows का status न बदले
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from Leave l where l.id in :ids")
+    List<Leave> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // एक statement; version बढ़ता है ताकि पुराने per-leave ETags पर 412 मिले. Hibernate listeners नहीं चलते
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Leave l set l.status = :status, l.version = l.version + 1 where l.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
 }
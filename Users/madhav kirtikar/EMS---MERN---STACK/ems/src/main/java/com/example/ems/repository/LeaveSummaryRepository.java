@@ -0,0 +1,19 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.LeaveSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LeaveSummaryRepository extends JpaRepository<LeaveSummary, Long> {
+    List<LeaveSummary> findByYearOrderByEmployeeName(int year);
+
+    List<LeaveSummary> findByEmployeeIdOrderByYearDesc(Long employeeId);
+
+    @Modifying
+    @Query("delete from LeaveSummary s where s.employeeId = :employeeId")
+    void deleteByEmployeeId(@Param("employeeId") Long employeeId);
+}
@@ -0,0 +1,15 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    List<Notification> findByTargetRoleInOrderByIdDesc(Collection<String> targetRoles, Limit limit);
+
+    // SSE reconnect: Last-Event-ID के बाद के notifications replay
+    List<Notification> findByTargetRoleInAndIdGreaterThanOrderByIdAsc(Collection<String> targetRoles, Long afterId, Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // कई instances साथ poll करें तो हर एक को अलग rows मिलती हैं – locked rows skip (MySQL 8)
+    @Query(value = """
+        select * from outbox_event
+        where status = 'PENDING' and available_at <= :now
+        order by id
+        limit :limit
+        for update skip locked
+        """, nativeQuery = true)
+    List<OutboxEvent> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.status = 'DONE' and o.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
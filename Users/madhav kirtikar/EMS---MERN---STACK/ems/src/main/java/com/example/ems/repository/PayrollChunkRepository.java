@@ -0,0 +1,21 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.PayrollChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PayrollChunkRepository extends JpaRepository<PayrollChunk, Long> {
+    List<PayrollChunk> findByRunIdAndStatusOrderByChunkNo(Long runId, String status);
+
+    // Chunk claim: दो nodes एक ही run resume करें तो दूसरा DONE देखकर skip करता है
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from PayrollChunk c where c.id = :id")
+    Optional<PayrollChunk> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,31 @@
+package com.example.ems.repository;
+
+import com.example.ems.model.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+    List<PayrollRun> findByStatus(String status);
+
+    List<PayrollRun> findByMonthOrderByIdDesc(YearMonth month);
+
+    boolean existsByMonthAndStatus(YearMonth month, String status);
+
+    // Parallel chunks एक साथ commit करते हैं – read-modify-write नहीं, atomic increment
+    @Modifying
+    @Query("""
+        update PayrollRun r
+        set r.processedEmployees = r.processedEmployees + :processed,
+            r.skippedEmployees = r.skippedEmployees + :skipped,
+            r.createdSalaries = r.createdSalaries + :created,
+            r.completedChunks = r.completedChunks + 1
+        where r.id = :runId
+        """)
+    void addProgress(@Param("runId") Long runId, @Param("processed") int processed,
+                     @Param("skipped") int skipped, @Param("created") int created);
+}
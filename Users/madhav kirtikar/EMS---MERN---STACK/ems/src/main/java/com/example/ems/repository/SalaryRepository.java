@@ -1,10 +1,43 @@
  package com.example.ems.repository;
 
+import com.example.ems.dto.SalaryDTO;
 import com.example.ems.model.Salary;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.YearMonth;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SalaryRepository extends JpaRepository<Salary, Long> {
     List<Salary> findByEmployeeName(String employeeName);
+
+    // uk_salaries_employee_month (employee_id, pay_month); employee उसी query में join होता है, हर row पर अलग select नहीं
+    @EntityGraph(attributePaths = "employee")
+    List<Salary> findByEmployeeIdOrderByMonthDesc(Long employeeId);
+
+    // Dashboard: [STATUS, count, total] एक महीने के लिए; idx_salaries_month_status_amount
+    @Query("""
+        select upper(s.status), count(s), coalesce(sum(s.amount), 0)
+        from Salary s
+        where s.month = :month
+        group by upper(s.status)
+        """)
+    List<Object[]> totalsByStatus(@Param("month") YearMonth month);
+
+    // Export: forward-only cursor, rows DTO में आती हैं इसलिए persistence context नहीं भरता
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.example.ems.dto.SalaryDTO(s.id, s.employeeName, s.month, s.amount, s.status)
+        from Salary s
+        where s.id > :afterId
+        order by s.id asc
+        """)
+    Stream<SalaryDTO> streamAfter(@Param("afterId") Long afterId);
 }
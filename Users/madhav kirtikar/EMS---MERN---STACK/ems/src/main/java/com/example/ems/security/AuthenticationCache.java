@@ -0,0 +1,89 @@
+package com.example.ems.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Auth cache: UserDetails (DB lookup बचाता है) और successful credential checks (BCrypt बचाता है).
+ * Password कभी store नहीं होता – key username + HMAC(password) है, HMAC key process start पर random बनती है.
+ * User बदलने पर {@link #evict(String)} बुलाओ; बाकी nodes पर entries TTL से expire होती हैं.
+ */
+@Component
+public class AuthenticationCache implements UserCache {
+
+    private record CredentialKey(String username, String digest) {}
+
+    private final Cache<String, UserDetails> users;
+    private final Cache<CredentialKey, Authentication> credentials;
+    private final SecretKeySpec hmacKey;
+
+    public AuthenticationCache(@Value("${app.security.auth-cache.user-ttl:5m}") Duration userTtl,
+                               @Value("${app.security.auth-cache.credential-ttl:60s}") Duration credentialTtl,
+                               @Value("${app.security.auth-cache.max-size:10000}") long maxSize) {
+        this.users = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(userTtl).recordStats().build();
+        this.credentials = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(credentialTtl).recordStats().build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    public Authentication getAuthenticated(String username, String password) {
+        return credentials.getIfPresent(credentialKey(username, password));
+    }
+
+    public void putAuthenticated(String username, String password, Authentication authentication) {
+        credentials.put(credentialKey(username, password), authentication);
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        users.invalidate(username);
+        credentials.asMap().keySet().removeIf(k -> k.username().equals(username));
+    }
+
+    // Copies: ProviderManager auth के बाद principal का password erase कर देता है – cached object पर असर न पड़े
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = users.getIfPresent(username);
+        return cached == null ? null : User.withUserDetails(cached).build();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        users.put(user.getUsername(), User.withUserDetails(user).build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        evict(username);
+    }
+
+    private CredentialKey credentialKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            byte[] digest = mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+            return new CredentialKey(username, Base64.getEncoder().encodeToString(digest));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
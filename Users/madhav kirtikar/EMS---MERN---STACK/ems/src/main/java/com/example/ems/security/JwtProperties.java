@@ -0,0 +1,37 @@
+package com.example.ems.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * app.jwt.* settings.
+ *
+ * Key rotation: नई key keys में जोड़ो (e.g. app.jwt.keys.k2=...), active-key-id को k2 करो और deploy करो.
+ * नए tokens k2 से sign होंगे, पुराने k1 tokens ("kid" header से) तब तक verify होते रहेंगे.
+ * refresh-ttl बीतने के बाद k1 हटा दो.
+ *
+ * @param keys        kid -> base64 encoded HMAC-SHA256 secret (कम से कम 32 bytes)
+ */
+@ConfigurationProperties(prefix = "app.jwt")
+public record JwtProperties(String issuer,
+                            String activeKeyId,
+                            Map<String, String> keys,
+                            Duration accessTtl,
+                            Duration refreshTtl) {
+
+    // Key env से न आए तो placeholder ("${EMS_JWT_KEY_K1}") या खाली string bind होती है – startup यहीं रुके
+    public JwtProperties {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalStateException("app.jwt.keys must contain at least one signing key");
+        }
+        keys.forEach((kid, secret) -> {
+            if (secret == null || secret.isBlank() || secret.contains("${")) {
+                throw new IllegalStateException("No signing key supplied for app.jwt.keys." + kid
+                        + " (set EMS_JWT_KEY_" + kid.toUpperCase(Locale.ROOT) + ")");
+            }
+        });
+    }
+}
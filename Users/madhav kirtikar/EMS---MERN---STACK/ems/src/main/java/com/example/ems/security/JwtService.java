@@ -0,0 +1,113 @@
+package com.example.ems.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access/refresh tokens (HS256). Verification सिर्फ signature + claims से होता है – DB call नहीं.
+ */
+@Service
+public class JwtService {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_TYPE = "typ";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final JwtProperties props;
+    private final Map<String, byte[]> keys = new HashMap<>();
+
+    public JwtService(JwtProperties props) {
+        this.props = props;
+        if (props.keys() == null || props.keys().isEmpty()) {
+            throw new IllegalStateException("app.jwt.keys must contain at least one signing key");
+        }
+        props.keys().forEach((kid, secret) -> {
+            byte[] key = Base64.getDecoder().decode(secret.trim());
+            if (key.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("app.jwt.keys." + kid + " must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            keys.put(kid, key);
+        });
+        if (!keys.containsKey(props.activeKeyId())) {
+            throw new IllegalStateException("app.jwt.active-key-id '" + props.activeKeyId() + "' is not in app.jwt.keys");
+        }
+    }
+
+    public String issueAccessToken(UserDetails user) {
+        return issue(user.getUsername(), user.getAuthorities(), TYPE_ACCESS, props.accessTtl().toMillis());
+    }
+
+    public String issueRefreshToken(UserDetails user) {
+        return issue(user.getUsername(), List.of(), TYPE_REFRESH, props.refreshTtl().toMillis());
+    }
+
+    public long accessTtlSeconds() {
+        return props.accessTtl().toSeconds();
+    }
+
+    /**
+     * Signature, expiry, issuer और token type check करता है.
+     * @throws JwtException token invalid/expired हो या type match न करे
+     */
+    public Claims parse(String token, String expectedType) {
+        Claims claims = Jwts.parser()
+                .requireIssuer(props.issuer())
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+                        byte[] key = keys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .parseClaimsJws(token)
+                .getBody();
+        if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+            throw new JwtException("Expected " + expectedType + " token");
+        }
+        return claims;
+    }
+
+    public List<GrantedAuthority> authorities(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof Collection<?> list)) {
+            return List.of();
+        }
+        return list.stream().map(r -> (GrantedAuthority) new SimpleGrantedAuthority(r.toString())).toList();
+    }
+
+    private String issue(String subject, Collection<? extends GrantedAuthority> authorities, String type, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        String kid = props.activeKeyId();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setIssuer(props.issuer())
+                .setSubject(subject)
+                .claim(CLAIM_TYPE, type)
+                .claim(CLAIM_ROLES, authorities.stream().map(GrantedAuthority::getAuthority).toList())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + ttlMillis))
+                .signWith(SignatureAlgorithm.HS256, keys.get(kid))
+                .compact();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.ems.service;
+
+import com.example.ems.model.Employee;
+import com.example.ems.model.Leave;
+import com.example.ems.model.LeaveSummary;
+import com.example.ems.repository.LeaveRepository;
+import com.example.ems.repository.LeaveSummaryRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Attendance/leave rollups को write के साथ-साथ maintain करता है.
+ * सिर्फ touched keys (employee-month, department-month, employee-year) recompute होती हैं –
+ * dashboards summary tables पढ़ते हैं, raw rows नहीं.
+ */
+@Service
+public class AggregateService {
+
+    private static final int IN_CHUNK = 1000;
+
+    // Touched employees की month rollup, एक statement में
+    private static final String EMPLOYEE_MONTH_UPSERT = """
+        insert into attendance_monthly_summary
+            (employee_id, month, department, present_days, absent_days, half_days, leave_days)
+        select a.employee_id, :month, max(e.department),
+               sum(lower(a.status) = 'present'),
+               sum(lower(a.status) = 'absent'),
+               sum(lower(a.status) in ('half-day', 'half day', 'halfday')),
+               sum(lower(a.status) = 'leave')
+        from attendance a
+        left join employees e on e.id = a.employee_id
+        where a.attendance_date >= :monthStart and a.attendance_date < :nextMonthStart
+          and a.employee_id in (:employeeIds)
+        group by a.employee_id
+        on duplicate key update
+            department = values(department),
+            present_days = values(present_days),
+            absent_days = values(absent_days),
+            half_days = values(half_days),
+            leave_days = values(leave_days)
+        """;
+
+    // Upsert सिर्फ उन्हीं employees की row लिखता है जिनकी attendance बची है; बाकी touched employees की row पुरानी रह जाती
+    private static final String EMPLOYEE_MONTH_DELETE_EMPTY = """
+        delete s from attendance_monthly_summary s
+        where s.month = :month and s.employee_id in (:employeeIds)
+          and not exists (
+              select 1 from attendance a
+              where a.employee_id = s.employee_id
+                and a.attendance_date >= :monthStart and a.attendance_date < :nextMonthStart)
+        """;
+
+    private static final String DEPARTMENTS_OF = """
+        select distinct department from attendance_monthly_summary
+        where month = :month and employee_id in (:employeeIds) and department is not null
+        """;
+
+    private static final String DEPARTMENT_MONTH_UPSERT = """
+        insert into department_attendance_summary
+            (department, month, employees, present_days, absent_days, half_days, leave_days)
+        select department, month, count(*), sum(present_days), sum(absent_days), sum(half_days), sum(leave_days)
+        from attendance_monthly_summary
+        where month = :month and department in (:departments)
+        group by department, month
+        on duplicate key update
+            employees = values(employees),
+            present_days = values(present_days),
+            absent_days = values(absent_days),
+            half_days = values(half_days),
+            leave_days = values(leave_days)
+        """;
+
+    // Department में उस month का कोई employee नहीं बचा (transfer / attendance delete) – upsert उसे छूता ही नहीं
+    private static final String DEPARTMENT_MONTH_DELETE_EMPTY = """
+        delete d from department_attendance_summary d
+        where d.month = :month and d.department in (:departments)
+          and not exists (
+              select 1 from attendance_monthly_summary s
+              where s.month = d.month and s.department = d.department)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final LeaveRepository leaveRepo;
+    private final LeaveSummaryRepository leaveSummaryRepo;
+
+    public AggregateService(NamedParameterJdbcTemplate jdbc, LeaveRepository leaveRepo,
+                            LeaveSummaryRepository leaveSummaryRepo) {
+        this.jdbc = jdbc;
+        this.leaveRepo = leaveRepo;
+        this.leaveSummaryRepo = leaveSummaryRepo;
+    }
+
+    /**
+     * Attendance rows लिखे जाने के बाद बुलाओ.
+     * @param employeesByMonth month -> उस month में जिन employees की attendance बदली
+     */
+    @Transactional
+    public void refreshAttendance(Map<YearMonth, ? extends Collection<Long>> employeesByMonth) {
+        employeesByMonth.forEach((month, employeeIds) -> {
+            List<Long> ids = new ArrayList<>(new HashSet<>(employeeIds));
+            for (int i = 0; i < ids.size(); i += IN_CHUNK) {
+                List<Long> chunk = ids.subList(i, Math.min(i + IN_CHUNK, ids.size()));
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("month", month.toString())
+                        .addValue("monthStart", month.atDay(1))
+                        .addValue("nextMonthStart", month.plusMonths(1).atDay(1))
+                        .addValue("employeeIds", chunk);
+
+                // Employee department बदला हो तो पुराना department भी refresh होना चाहिए – upsert से पहले और बाद दोनों
+                Set<String> departments = new HashSet<>(jdbc.queryForList(DEPARTMENTS_OF, params, String.class));
+                jdbc.update(EMPLOYEE_MONTH_UPSERT, params);
+                jdbc.update(EMPLOYEE_MONTH_DELETE_EMPTY, params);
+                departments.addAll(jdbc.queryForList(DEPARTMENTS_OF, params, String.class));
+
+                if (!departments.isEmpty()) {
+                    MapSqlParameterSource departmentParams = new MapSqlParameterSource()
+                            .addValue("month", month.toString())
+                            .addValue("departments", departments);
+                    jdbc.update(DEPARTMENT_MONTH_UPSERT, departmentParams);
+                    jdbc.update(DEPARTMENT_MONTH_DELETE_EMPTY, departmentParams);
+                }
+            }
+        });
+    }
+
+    /**
+     * किसी employee की leave add/update/delete के बाद – उसकी सारी years recompute. Name/department employee के current
+     * record से (rename के बाद भी). employeeId null = पुरानी leave जो किसी employee से resolve नहीं हुई, rollup नहीं
+     */
+    @Transactional
+    public void refreshLeaves(Long employeeId) {
+        if (employeeId == null) {
+            return;
+        }
+        Map<Integer, LeaveSummary> byYear = new TreeMap<>();
+        for (Leave leave : leaveRepo.findByEmployeeIdOrderByFromDateDesc(employeeId)) {
+            LocalDate from = leave.getFromDate();
+            LocalDate to = leave.getToDate();
+            if (from == null) {
+                continue;
+            }
+            if (to == null || to.isBefore(from)) {
+                to = from;
+            }
+            boolean approved = "APPROVED".equalsIgnoreCase(leave.getStatus());
+            boolean pending = "PENDING".equalsIgnoreCase(leave.getStatus());
+            if (!approved && !pending) {
+                continue;
+            }
+            // Year boundary पार करने वाली leave दोनों years में बँटती है
+            for (LocalDate start = from; !start.isAfter(to); start = start.withDayOfYear(1).plusYears(1)) {
+                LocalDate yearEnd = start.withDayOfYear(start.lengthOfYear());
+                LocalDate end = to.isBefore(yearEnd) ? to : yearEnd;
+                int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+                Employee e = leave.getEmployee();
+                LeaveSummary s = byYear.computeIfAbsent(start.getYear(), y -> new LeaveSummary(null, employeeId,
+                        e != null ? e.getName() : leave.getName(), y,
+                        e != null ? e.getDepartment() : leave.getDepartment(), 0, 0));
+                if (approved) {
+                    s.setApprovedDays(s.getApprovedDays() + days);
+                } else {
+                    s.setPendingDays(s.getPendingDays() + days);
+                }
+            }
+        }
+        leaveSummaryRepo.deleteByEmployeeId(employeeId);
+        leaveSummaryRepo.flush();
+        leaveSummaryRepo.saveAll(byYear.values());
+    }
+}
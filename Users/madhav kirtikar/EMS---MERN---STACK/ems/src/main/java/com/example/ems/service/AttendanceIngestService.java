@@ -0,0 +1,186 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.PunchDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Morning punch burst के लिए: request thread सिर्फ bounded buffer में डालता है (DB नहीं छूता),
+ * एक background writer buffer drain करके (employee, date) duplicates मिलाता है और JDBC batch upsert करता है.
+ * Buffer भरा हो तो offer false लौटाता है – caller को back-pressure (503) मिलता है.
+ * पूरे burst के लिए DB पर एक ही connection लगता है. हर flush के बाद touched employees की monthly rollups refresh होती हैं.
+ */
+@Service
+public class AttendanceIngestService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIngestService.class);
+
+    private static final String UPSERT_SQL =
+            "insert into attendance (employee_id, attendance_date, status) values (?, ?, ?) "
+            + "on duplicate key update status = values(status)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private record Key(Long employeeId, LocalDate date) {}
+
+    private final JdbcTemplate jdbc;
+    private final AggregateService aggregateService;
+    private final BlockingQueue<PunchDTO> buffer;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AttendanceIngestService(JdbcTemplate jdbc, AggregateService aggregateService, MeterRegistry meters,
+                                   @Value("${app.attendance.buffer-capacity:50000}") int capacity,
+                                   @Value("${app.attendance.batch-size:1000}") int batchSize,
+                                   @Value("${app.attendance.flush-interval:200ms}") Duration flushInterval) {
+        this.jdbc = jdbc;
+        this.aggregateService = aggregateService;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        Gauge.builder("attendance.buffer.size", buffer, BlockingQueue::size).register(meters);
+        this.written = Counter.builder("attendance.punches.written").register(meters);
+        this.dropped = Counter.builder("attendance.punches.dropped").register(meters);
+    }
+
+    /** @return false अगर buffer भरा है (या service बंद हो रही है) */
+    public boolean offer(PunchDTO punch) {
+        return running && buffer.offer(normalize(punch));
+    }
+
+    /** @return कितने punches accept हुए; बाकी caller बाद में retry करे */
+    public int offerAll(List<PunchDTO> punches) {
+        int accepted = 0;
+        for (PunchDTO punch : punches) {
+            if (!offer(punch)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
+    private static PunchDTO normalize(PunchDTO punch) {
+        LocalDate date = punch.getDate() == null ? LocalDate.now() : punch.getDate();
+        String status = punch.getStatus() == null || punch.getStatus().isBlank() ? "Present" : punch.getStatus();
+        return new PunchDTO(punch.getEmployeeId(), date, status);
+    }
+
+    private void runWriter() {
+        List<PunchDTO> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PunchDTO first = buffer.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    // shutdown: बचा हुआ buffer भी लिख दो
+                    buffer.drainTo(batch);
+                    flush(batch);
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PunchDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // (employee, date) पर आख़िरी punch जीतता है
+        Map<Key, PunchDTO> coalesced = new LinkedHashMap<>();
+        for (PunchDTO p : batch) {
+            coalesced.put(new Key(p.getEmployeeId(), p.getDate()), p);
+        }
+        List<Object[]> rows = coalesced.values().stream()
+                .map(p -> new Object[] {p.getEmployeeId(), p.getDate(), p.getStatus()})
+                .toList();
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                jdbc.batchUpdate(UPSERT_SQL, rows);
+                written.increment(rows.size());
+                refreshAggregates(coalesced.keySet());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Attendance flush of {} rows failed (attempt {}/{}): {}", rows.size(), attempt, MAX_ATTEMPTS, e.getMessage());
+                sleepQuietly(attempt * 500L);
+            }
+        }
+        dropped.increment(rows.size());
+        log.error("Dropped {} attendance punches after {} attempts", rows.size(), MAX_ATTEMPTS);
+    }
+
+    // Rollup failure punches को दोबारा लिखवाने की वजह नहीं – अगले flush में वही employee फिर recompute होगा
+    private void refreshAggregates(Collection<Key> keys) {
+        Map<YearMonth, List<Long>> employeesByMonth = keys.stream()
+                .collect(Collectors.groupingBy(k -> YearMonth.from(k.date()),
+                        Collectors.mapping(Key::employeeId, Collectors.toList())));
+        try {
+            aggregateService.refreshAttendance(employeesByMonth);
+        } catch (RuntimeException e) {
+            log.warn("Attendance rollup refresh failed for {} punches: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("attendance-writer").daemon(true).start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(Duration.ofSeconds(30).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.BulkImportResultDTO;
+import com.example.ems.event.DomainEvent;
+import com.example.ems.event.EmployeeCreated;
+import com.example.ems.model.Employee;
+import com.example.ems.model.Salary;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.util.Csv;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Salary/Employee bulk ingest.
+ * पूरा batch पहले एक pass में validate होता है, फिर valid rows chunks में JDBC batching से insert होती हैं.
+ * कोई chunk fail हो तो सिर्फ उसी chunk की rows एक-एक करके retry होती हैं – बाकी import बना रहता है.
+ * Domain events (EmployeeCreated, PAID rows का SalaryPaid) उसी chunk transaction में outbox में जाते हैं.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    // हर chunk एक transaction; hibernate.jdbc.batch_size (50) के multiple में रखा है
+    private static final int CHUNK_SIZE = 500;
+    private static final int EMAIL_LOOKUP_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepo;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeAnalytics analytics;
+    private final EmployeeReferenceResolver references;
+    private final DomainEventOutbox outbox;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public BulkImportService(EmployeeRepository employeeRepo, Validator validator, ObjectMapper objectMapper,
+                             PlatformTransactionManager txManager, EmployeeSearchIndex searchIndex,
+                             EmployeeReferenceResolver references, EmployeeAnalytics analytics,
+                             DomainEventOutbox outbox) {
+        this.employeeRepo = employeeRepo;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(txManager);
+        this.searchIndex = searchIndex;
+        this.analytics = analytics;
+        this.references = references;
+        this.outbox = outbox;
+    }
+
+    public BulkImportResultDTO importSalaries(List<Salary> rows) {
+        BulkImportResultDTO result = new BulkImportResultDTO(rows.size());
+        Map<Integer, Salary> valid = validate(rows, result);
+        valid.values().forEach(s -> {
+            s.setId(null);
+            if (s.getStatus() == null || s.getStatus().isBlank()) {
+                s.setStatus("UNPAID");
+            }
+        });
+        references.resolveSalaries(valid.values());
+        persist(valid, result, s -> SalaryService.PAID.equalsIgnoreCase(s.getStatus()) ? SalaryService.paid(s) : null);
+        return result;
+    }
+
+    public BulkImportResultDTO importEmployees(List<Employee> rows) {
+        BulkImportResultDTO result = new BulkImportResultDTO(rows.size());
+        Map<Integer, Employee> valid = validate(rows, result);
+        valid.values().forEach(e -> e.setId(null));
+        rejectDuplicateEmails(valid, result);
+        references.resolveDepartments(valid.values());
+        List<Employee> persisted = persist(valid, result,
+                e -> new EmployeeCreated(e.getId(), e.getName(), e.getDepartment(), e.getEmail()));
+        searchIndex.upsertAll(persisted);
+        analytics.upsertAll(persisted);
+        return result;
+    }
+
+    public BulkImportResultDTO importSalariesCsv(InputStream csv) throws IOException {
+        return importCsv(csv, Salary.class, this::importSalaries);
+    }
+
+    public BulkImportResultDTO importEmployeesCsv(InputStream csv) throws IOException {
+        return importCsv(csv, Employee.class, this::importEmployees);
+    }
+
+    // CSV header names entity field names से match होने चाहिए (e.g. employeeName,month,amount,status)
+    private <T> BulkImportResultDTO importCsv(InputStream csv, Class<T> type,
+                                             Function<List<T>, BulkImportResultDTO> importer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        List<String> header = Csv.readRecord(reader);
+        if (header == null) {
+            return new BulkImportResultDTO(0);
+        }
+        header = header.stream().map(String::trim).toList();
+
+        // Unparseable rows null placeholder बन जाती हैं ताकि row numbers CSV positions से match रहें
+        List<T> rows = new ArrayList<>();
+        Map<Integer, String> parseErrors = new HashMap<>();
+        List<String> record;
+        while ((record = Csv.readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                String v = record.get(i).trim();
+                values.put(header.get(i), v.isEmpty() ? null : v);
+            }
+            try {
+                rows.add(objectMapper.convertValue(values, type));
+            } catch (IllegalArgumentException e) {
+                rows.add(null);
+                parseErrors.put(rows.size(), "Unparseable row: " + e.getMessage());
+            }
+        }
+
+        BulkImportResultDTO result = importer.apply(rows);
+        result.getErrors().forEach(error -> {
+            String parseError = parseErrors.get(error.getRow());
+            if (parseError != null) {
+                error.setMessage(parseError);
+            }
+        });
+        return result;
+    }
+
+    private <T> Map<Integer, T> validate(List<T> rows, BulkImportResultDTO result) {
+        Map<Integer, T> valid = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            T row = rows.get(i);
+            if (row == null) {
+                result.addError(i + 1, "Empty row");
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(row);
+            if (violations.isEmpty()) {
+                valid.put(i + 1, row);
+            } else {
+                result.addError(i + 1, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+        return valid;
+    }
+
+    // Batch के अंदर और DB में पहले से मौजूद emails – unique constraint पर पूरा chunk fail होने से पहले ही हटा दो
+    private void rejectDuplicateEmails(Map<Integer, Employee> valid, BulkImportResultDTO result) {
+        Map<String, Integer> firstSeen = new HashMap<>();
+        List<Integer> duplicates = new ArrayList<>();
+        valid.forEach((row, e) -> {
+            if (e.getEmail() != null && firstSeen.putIfAbsent(e.getEmail(), row) != null) {
+                duplicates.add(row);
+            }
+        });
+        duplicates.forEach(row -> {
+            result.addError(row, "email: duplicate within batch");
+            valid.remove(row);
+        });
+
+        List<String> emails = new ArrayList<>(firstSeen.keySet());
+        Set<String> existing = new HashSet<>();
+        for (int i = 0; i < emails.size(); i += EMAIL_LOOKUP_SIZE) {
+            existing.addAll(employeeRepo.findExistingEmails(emails.subList(i, Math.min(i + EMAIL_LOOKUP_SIZE, emails.size()))));
+        }
+        valid.entrySet().removeIf(entry -> {
+            if (entry.getValue().getEmail() != null && existing.contains(entry.getValue().getEmail())) {
+                result.addError(entry.getKey(), "email: already exists");
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // जो rows सच में insert हुईं वो लौटाता है. event: row का domain event, null = कोई event नहीं
+    private <T> List<T> persist(Map<Integer, T> valid, BulkImportResultDTO result,
+                                Function<T, ? extends DomainEvent> event) {
+        List<T> persisted = new ArrayList<>(valid.size());
+        List<Map.Entry<Integer, T>> entries = new ArrayList<>(valid.entrySet());
+        for (int i = 0; i < entries.size(); i += CHUNK_SIZE) {
+            List<Map.Entry<Integer, T>> chunk = entries.subList(i, Math.min(i + CHUNK_SIZE, entries.size()));
+            try {
+                tx.executeWithoutResult(status -> {
+                    chunk.forEach(entry -> em.persist(entry.getValue()));
+                    em.flush();
+                    em.clear();
+                    outbox.appendAll(chunk.stream().map(entry -> event.apply(entry.getValue()))
+                            .filter(Objects::nonNull).toList());
+                });
+                result.setImported(result.getImported() + chunk.size());
+                chunk.forEach(entry -> persisted.add(entry.getValue()));
+            } catch (RuntimeException e) {
+                log.warn("Bulk chunk of {} rows failed ({}), retrying row by row", chunk.size(), e.getMessage());
+                persistOneByOne(chunk, result, persisted, event);
+            }
+        }
+        result.getErrors().sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        return persisted;
+    }
+
+    private <T> void persistOneByOne(List<Map.Entry<Integer, T>> chunk, BulkImportResultDTO result, List<T> persisted,
+                                     Function<T, ? extends DomainEvent> event) {
+        for (Map.Entry<Integer, T> entry : chunk) {
+            resetId(entry.getValue());
+            try {
+                tx.executeWithoutResult(status -> {
+                    em.persist(entry.getValue());
+                    em.flush();
+                    em.clear();
+                    DomainEvent e = event.apply(entry.getValue());
+                    if (e != null) {
+                        outbox.append(e);
+                    }
+                });
+                result.setImported(result.getImported() + 1);
+                persisted.add(entry.getValue());
+            } catch (RuntimeException e) {
+                result.addError(entry.getKey(), rootMessage(e));
+            }
+        }
+    }
+
+    // Rolled-back chunk की entities को generator से id मिल चुकी होती है; retry से पहले हटा दो
+    private static void resetId(Object entity) {
+        if (entity instanceof Salary s) {
+            s.setId(null);
+        } else if (entity instanceof Employee e) {
+            e.setId(null);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
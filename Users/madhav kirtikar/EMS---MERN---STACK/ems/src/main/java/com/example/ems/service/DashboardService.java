@@ -0,0 +1,97 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.DashboardSummaryDTO;
+import com.example.ems.dto.DashboardSummaryDTO.DepartmentHeadcount;
+import com.example.ems.dto.DashboardSummaryDTO.SalaryTotals;
+import com.example.ems.model.Event;
+import com.example.ems.model.LeaveStatus;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.repository.EventRepository;
+import com.example.ems.repository.LeaveRepository;
+import com.example.ems.repository.SalaryRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard के चार independent aggregates (headcount, pending leaves, salary totals, upcoming events) अलग-अलग
+ * virtual threads पर साथ चलते हैं – response time सबसे धीमी query जितना, चारों के जोड़ जितना नहीं.
+ * Result cache का key tables का TableVersions stamp है, तो कोई भी write होते ही अगली request नया key बनाती है.
+ */
+@Service
+public class DashboardService {
+
+    public static final String CACHE = "dashboard";
+
+    // जिन tables से summary बनती है
+    public static final String[] TABLES = {"employees", "leaves", "salaries", "events"};
+
+    private final EmployeeRepository employeeRepo;
+    private final LeaveRepository leaveRepo;
+    private final SalaryRepository salaryRepo;
+    private final EventRepository eventRepo;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DashboardService(EmployeeRepository employeeRepo, LeaveRepository leaveRepo,
+                            SalaryRepository salaryRepo, EventRepository eventRepo) {
+        this.employeeRepo = employeeRepo;
+        this.leaveRepo = leaveRepo;
+        this.salaryRepo = salaryRepo;
+        this.eventRepo = eventRepo;
+    }
+
+    /** version: TableVersions stamp + month + आज की date (upcoming events रोज़ बदलते हैं); सिर्फ cache key के लिए */
+    @Cacheable(value = CACHE, key = "#version")
+    public DashboardSummaryDTO summary(YearMonth month, LocalDate today, String version) {
+        CompletableFuture<List<Object[]>> departments = async(employeeRepo::countByDepartment);
+        CompletableFuture<Long> pendingLeaves = async(() -> leaveRepo.countByStatus(LeaveStatus.PENDING.name()));
+        CompletableFuture<List<Object[]>> salaryTotals = async(() -> salaryRepo.totalsByStatus(month));
+        CompletableFuture<List<Event>> events = async(() -> eventRepo.findTop5ByDateGreaterThanEqualOrderByDateAsc(today));
+
+        List<DepartmentHeadcount> headcounts = new ArrayList<>();
+        long headcount = 0;
+        for (Object[] row : join(departments)) {
+            long count = ((Number) row[1]).longValue();
+            headcounts.add(new DepartmentHeadcount((String) row[0], count));
+            headcount += count;
+        }
+        SalaryTotals paid = new SalaryTotals(0, 0);
+        SalaryTotals unpaid = new SalaryTotals(0, 0);
+        for (Object[] row : join(salaryTotals)) {
+            SalaryTotals totals = new SalaryTotals(((Number) row[1]).longValue(), ((Number) row[2]).doubleValue());
+            // Data में "Paid"/"Unpaid" भी है; query upper() करती है, फिर भी यहाँ case पर निर्भर नहीं
+            String status = (String) row[0];
+            if ("PAID".equalsIgnoreCase(status)) {
+                paid = totals;
+            } else if ("UNPAID".equalsIgnoreCase(status)) {
+                unpaid = totals;
+            }
+        }
+        return new DashboardSummaryDTO(month, headcount, headcounts, join(pendingLeaves), paid, unpaid, join(events));
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    // Query की असली exception (DataAccessException वगैरह) ऊपर जाए, CompletionException में लिपटी नहीं
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
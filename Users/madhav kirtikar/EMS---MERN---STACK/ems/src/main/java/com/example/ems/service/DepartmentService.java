@@ -1,5 +1,57 @@
 package com.example.ems.service;
 
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.model.Department;
+import com.example.ems.repository.DepartmentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// Departments महीने में कुछ बार बदलते हैं पर हर dashboard page पढ़ता है – list cache से, हर write पर evict.
+// Cache node-local है, इसलिए key TableVersions stamp है: दूसरे node का write नया version देता है, पुरानी entry नहीं मिलती
+@Service
 public class DepartmentService {
 
+    public static final String CACHE = "departments";
+
+    private final DepartmentRepository repo;
+    private final VersionedUpdates versionedUpdates;
+
+    public DepartmentService(DepartmentRepository repo, VersionedUpdates versionedUpdates) {
+        this.repo = repo;
+        this.versionedUpdates = versionedUpdates;
+    }
+
+    /** version: TableVersions.stamp("departments").version() – सिर्फ cache key के लिए */
+    @Cacheable(value = CACHE, key = "#version")
+    public List<Department> getAll(String version) {
+        return repo.findAll();
+    }
+
+    public Department get(Long id) {
+        return repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public Department save(Department dep) {
+        return repo.save(dep);
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public Department update(Long id, String ifMatch, Department dep) {
+        return versionedUpdates.replace(repo, id, ifMatch, dep);
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public Department patch(Long id, String ifMatch, JsonNode changes) {
+        return versionedUpdates.patch(repo, id, ifMatch, changes);
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public void delete(Long id) {
+        repo.deleteById(id);
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.ems.service;
+
+import com.example.ems.event.DomainEvent;
+import com.example.ems.model.OutboxEvent;
+import com.example.ems.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Domain event को outbox में लिखता है. Caller का transaction ज़रूरी है – entity change और event
+ * या तो दोनों commit होते हैं या कोई नहीं.
+ */
+@Service
+public class DomainEventOutbox {
+
+    private static final String INSERT_SQL = "insert into outbox_event"
+            + " (event_type, payload, status, attempts, created_at, available_at)"
+            + " values (:type, :payload, :status, 0, :now, :now)";
+
+    private final OutboxEventRepository repo;
+    private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public DomainEventOutbox(OutboxEventRepository repo, ObjectMapper objectMapper, NamedParameterJdbcTemplate jdbc) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.jdbc = jdbc;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        OutboxEvent row = new OutboxEvent();
+        row.setEventType(event.getClass().getSimpleName());
+        row.setPayload(serialize(event));
+        LocalDateTime now = LocalDateTime.now();
+        row.setCreatedAt(now);
+        row.setAvailableAt(now);
+        repo.save(row);
+    }
+
+    // Bulk writes: OutboxEvent का id IDENTITY है तो saveAll हर row अलग insert करता. यहाँ एक JDBC batch
+    // (rewriteBatchedStatements से एक multi-row insert), उसी connection/transaction में
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.batchUpdate(INSERT_SQL, events.stream()
+                .map(event -> new MapSqlParameterSource("type", event.getClass().getSimpleName())
+                        .addValue("payload", serialize(event))
+                        .addValue("status", OutboxEvent.PENDING)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.HistogramDTO;
+import com.example.ems.dto.MetricSummaryDTO;
+import com.example.ems.model.Employee;
+import com.example.ems.util.Amounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard के salary / performance / age distributions के लिए employees का columnar snapshot.
+ * हर numeric attribute एक primitive array है और department/gender int dictionary codes हैं – कोई boxing नहीं,
+ * एक aggregate बस arrays पर scan है, JPA/DB तक नहीं जाता.
+ * <p>
+ * Startup पर JDBC से एक बार भरता है, फिर EmployeeController/BulkImportService हर write पर सिर्फ उस employee का slot
+ * बदलते हैं. Results snapshot version के साथ memoize होते हैं, तो writes के बीच दोबारा आने वाली dashboard
+ * queries सिर्फ map lookup हैं. Snapshot हर instance का अपना है; दूसरे node के writes employees table version
+ * (TableVersions) के poll से आते हैं – version बदला तो पूरा snapshot दोबारा.
+ */
+@Service
+public class EmployeeAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAnalytics.class);
+
+    public enum Metric { SALARY, PERFORMANCE, AGE }
+
+    public enum GroupBy { NONE, DEPARTMENT, GENDER }
+
+    static final double[] SUMMARY_PERCENTILES = {25, 50, 75, 90, 99};
+
+    private static final String SNAPSHOT_SQL = "select id, department, gender, salary, age, performance from employees";
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MISSING_AGE = Integer.MIN_VALUE;
+    // filter में दिया गया department/gender snapshot में है ही नहीं
+    private static final int NO_MATCH = -2;
+    private static final int ANY = -1;
+    private static final int MAX_MEMO_ENTRIES = 256;
+
+    private final JdbcTemplate jdbc;
+    private final TableVersions tableVersions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // जिस employees table version से snapshot बना; poll इससे compare करता है
+    private volatile String builtFrom;
+
+    // Columns: slot i = एक employee, [0, size) valid. Delete पर आखिरी slot खाली जगह में आ जाता है
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] departments = new int[INITIAL_CAPACITY];
+    private int[] genders = new int[INITIAL_CAPACITY];
+    private double[] salaries = new double[INITIAL_CAPACITY];
+    private double[] performances = new double[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Dictionary departmentDict = new Dictionary();
+    private final Dictionary genderDict = new Dictionary();
+
+    // हर write पर बढ़ता है; memo पुराने version का हो तो फेंक दिया जाता है
+    private long version;
+    private volatile Memo memo = new Memo(-1, new ConcurrentHashMap<>());
+
+    private record Memo(long version, Map<String, Object> results) {}
+
+    public EmployeeAnalytics(JdbcTemplate jdbc, TableVersions tableVersions) {
+        this.jdbc = jdbc;
+        this.tableVersions = tableVersions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        // Snapshot query से पहले: बीच में आया write नया version देगा और अगला poll फिर rebuild करेगा
+        String tableVersion = tableVersions.stamp("employees").version();
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            slots.clear();
+            jdbc.query(SNAPSHOT_SQL, rs -> {
+                int age = rs.getInt("age");
+                if (rs.wasNull()) {
+                    age = MISSING_AGE;
+                }
+                double performance = rs.getDouble("performance");
+                if (rs.wasNull()) {
+                    performance = Double.NaN;
+                }
+                putUnlocked(rs.getLong("id"), rs.getString("department"), rs.getString("gender"),
+                        parseSalary(rs.getString("salary")), age, performance);
+            });
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        builtFrom = tableVersion;
+        log.info("Employee analytics snapshot built: {} employees, {} departments in {} ms",
+                size, departmentDict.size() - 1, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // इस node के writes upsert से तुरंत दिखते हैं; उनसे भी version बढ़ता है तो अगला poll एक बार rebuild करता है
+    @Scheduled(initialDelayString = "${app.analytics.refresh-interval:30s}",
+            fixedDelayString = "${app.analytics.refresh-interval:30s}")
+    void refreshIfChanged() {
+        try {
+            if (!tableVersions.stamp("employees").version().equals(builtFrom)) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Employee analytics refresh skipped: {}", e.getMessage());
+        }
+    }
+
+    public void upsert(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            putUnlocked(employee);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertAll(Collection<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            for (Employee e : employees) {
+                if (e.getId() != null) {
+                    putUnlocked(e);
+                }
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                departments[slot] = departments[last];
+                genders[slot] = genders[last];
+                salaries[slot] = salaries[last];
+                performances[slot] = performances[last];
+                ages[slot] = ages[last];
+                slots.put(ids[slot], slot);
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // count/mean/min/max + p25..p99, हर group के लिए (groupBy=NONE पर एक ही row)
+    public List<MetricSummaryDTO> summary(Metric metric, GroupBy groupBy, String department, String gender) {
+        String key = "summary|" + metric + "|" + groupBy + "|" + department + "|" + gender;
+        return memoized(key, () -> {
+            List<MetricSummaryDTO> rows = new ArrayList<>();
+            Map<Integer, double[]> groups = collect(metric, groupBy, department, gender);
+            for (Map.Entry<Integer, double[]> g : groups.entrySet()) {
+                double[] values = g.getValue();
+                Arrays.sort(values);
+                double sum = 0;
+                for (double v : values) {
+                    sum += v;
+                }
+                double[] p = new double[SUMMARY_PERCENTILES.length];
+                for (int i = 0; i < p.length; i++) {
+                    p[i] = percentile(values, SUMMARY_PERCENTILES[i]);
+                }
+                rows.add(new MetricSummaryDTO(label(groupBy, g.getKey()), values.length, sum / values.length,
+                        values[0], values[values.length - 1], p[0], p[1], p[2], p[3], p[4]));
+            }
+            rows.sort(Comparator.comparing(MetricSummaryDTO::getGroup, Comparator.nullsLast(Comparator.naturalOrder())));
+            return rows;
+        });
+    }
+
+    // "p50" -> value; कोई employee match न करे तो खाली map
+    public Map<String, Double> percentiles(Metric metric, double[] ps, String department, String gender) {
+        String key = "percentiles|" + metric + "|" + Arrays.toString(ps) + "|" + department + "|" + gender;
+        return memoized(key, () -> {
+            Map<String, Double> result = new LinkedHashMap<>();
+            double[] values = collect(metric, GroupBy.NONE, department, gender).get(ANY);
+            if (values == null) {
+                return result;
+            }
+            Arrays.sort(values);
+            for (double p : ps) {
+                result.put("p" + (p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p)), percentile(values, p));
+            }
+            return result;
+        });
+    }
+
+    // सारे groups एक ही range पर bucket होते हैं ताकि chart में साथ रखे जा सकें
+    public List<HistogramDTO> histogram(Metric metric, GroupBy groupBy, int buckets, String department, String gender) {
+        String key = "histogram|" + metric + "|" + groupBy + "|" + buckets + "|" + department + "|" + gender;
+        return memoized(key, () -> {
+            Map<Integer, double[]> groups = collect(metric, groupBy, department, gender);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double[] values : groups.values()) {
+                for (double v : values) {
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+            }
+            List<HistogramDTO> rows = new ArrayList<>();
+            if (groups.isEmpty()) {
+                return rows;
+            }
+            // सब values बराबर हों तो width 0 न हो
+            double width = max > min ? (max - min) / buckets : 1;
+            for (Map.Entry<Integer, double[]> g : groups.entrySet()) {
+                long[] counts = new long[buckets];
+                for (double v : g.getValue()) {
+                    counts[Math.min((int) ((v - min) / width), buckets - 1)]++;
+                }
+                rows.add(new HistogramDTO(label(groupBy, g.getKey()), min, width, counts));
+            }
+            rows.sort(Comparator.comparing(HistogramDTO::getGroup, Comparator.nullsLast(Comparator.naturalOrder())));
+            return rows;
+        });
+    }
+
+    // Read lock में: version पढ़ते समय कोई write बीच में नहीं आ सकता, तो result उसी version का है
+    @SuppressWarnings("unchecked")
+    private <T> T memoized(String key, Supplier<T> compute) {
+        lock.readLock().lock();
+        try {
+            Memo current = memo;
+            if (current.version() != version) {
+                current = new Memo(version, new ConcurrentHashMap<>());
+                memo = current;
+            }
+            Object cached = current.results().get(key);
+            if (cached != null) {
+                return (T) cached;
+            }
+            T result = compute.get();
+            if (current.results().size() < MAX_MEMO_ENTRIES) {
+                current.results().put(key, result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // group code -> उस group की (filter pass करने वाली, non-null) values. पहले count, फिर exact size के arrays
+    private Map<Integer, double[]> collect(Metric metric, GroupBy groupBy, String department, String gender) {
+        int departmentCode = department == null ? ANY : departmentDict.lookup(department);
+        int genderCode = gender == null ? ANY : genderDict.lookup(gender);
+        Map<Integer, double[]> groups = new HashMap<>();
+        if (departmentCode == NO_MATCH || genderCode == NO_MATCH) {
+            return groups;
+        }
+        int[] groupOf = switch (groupBy) {
+            case NONE -> null;
+            case DEPARTMENT -> departments;
+            case GENDER -> genders;
+        };
+        int groupCount = switch (groupBy) {
+            case NONE -> 1;
+            case DEPARTMENT -> departmentDict.size();
+            case GENDER -> genderDict.size();
+        };
+        int[] counts = new int[groupCount];
+        for (int i = 0; i < size; i++) {
+            if (matches(i, departmentCode, genderCode) && !Double.isNaN(value(metric, i))) {
+                counts[groupOf == null ? 0 : groupOf[i]]++;
+            }
+        }
+        double[][] values = new double[groupCount][];
+        int[] filled = new int[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            values[g] = new double[counts[g]];
+        }
+        for (int i = 0; i < size; i++) {
+            double v = value(metric, i);
+            if (matches(i, departmentCode, genderCode) && !Double.isNaN(v)) {
+                int g = groupOf == null ? 0 : groupOf[i];
+                values[g][filled[g]++] = v;
+            }
+        }
+        for (int g = 0; g < groupCount; g++) {
+            if (counts[g] > 0) {
+                groups.put(groupOf == null ? ANY : g, values[g]);
+            }
+        }
+        return groups;
+    }
+
+    private boolean matches(int slot, int departmentCode, int genderCode) {
+        return (departmentCode == ANY || departments[slot] == departmentCode)
+                && (genderCode == ANY || genders[slot] == genderCode);
+    }
+
+    private double value(Metric metric, int slot) {
+        return switch (metric) {
+            case SALARY -> salaries[slot];
+            case PERFORMANCE -> performances[slot];
+            case AGE -> ages[slot] == MISSING_AGE ? Double.NaN : ages[slot];
+        };
+    }
+
+    private String label(GroupBy groupBy, int code) {
+        return switch (groupBy) {
+            case NONE -> null;
+            case DEPARTMENT -> departmentDict.value(code);
+            case GENDER -> genderDict.value(code);
+        };
+    }
+
+    private void putUnlocked(Employee e) {
+        putUnlocked(e.getId(), e.getDepartment(), e.getGender(), parseSalary(e.getSalary()),
+                e.getAge() == null ? MISSING_AGE : e.getAge(),
+                e.getPerformance() == null ? Double.NaN : e.getPerformance());
+    }
+
+    private void putUnlocked(long id, String department, String gender, double salary, int age, double performance) {
+        Integer existing = slots.get(id);
+        int slot;
+        if (existing == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            ids[slot] = id;
+            slots.put(id, slot);
+        } else {
+            slot = existing;
+        }
+        departments[slot] = departmentDict.encode(department);
+        genders[slot] = genderDict.encode(gender);
+        salaries[slot] = salary;
+        performances[slot] = performance;
+        ages[slot] = age;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(ids.length * 2, needed);
+        ids = Arrays.copyOf(ids, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        genders = Arrays.copyOf(genders, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        performances = Arrays.copyOf(performances, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+    }
+
+    // Linear interpolation between closest ranks; values sorted होने चाहिए
+    static double percentile(double[] sorted, double p) {
+        double rank = p / 100 * (sorted.length - 1);
+        int lo = (int) Math.floor(rank);
+        int hi = Math.min(lo + 1, sorted.length - 1);
+        return sorted[lo] + (rank - lo) * (sorted[hi] - sorted[lo]);
+    }
+
+    // salary column varchar है; payroll वाले parser से, खाली/गलत value missing मानी जाती है
+    static double parseSalary(String salary) {
+        BigDecimal amount = Amounts.parse(salary);
+        return amount == null ? Double.NaN : amount.doubleValue();
+    }
+
+    // String <-> int code. Code 0 = null; codes कभी हटते नहीं (departments गिनती के हैं)
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        Dictionary() {
+            values.add(null);
+        }
+
+        int encode(String value) {
+            if (value == null || value.isBlank()) {
+                return 0;
+            }
+            return codes.computeIfAbsent(value.trim(), v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int lookup(String value) {
+            return codes.getOrDefault(value.trim(), NO_MATCH);
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ems.service;
+
+import com.example.ems.model.Department;
+import com.example.ems.model.Employee;
+import com.example.ems.model.Leave;
+import com.example.ems.model.Salary;
+import com.example.ems.repository.EmployeeRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Frontend अब भी names भेजता है (leave.name, salary.employeeName, employee.department).
+ * Save से पहले यहाँ से foreign keys भरती हैं. Name duplicate हो (दो "Amit Kumar") तो key null रहती है –
+ * गलत employee से जोड़ने से बेहतर.
+ */
+@Service
+public class EmployeeReferenceResolver {
+
+    private static final int NAME_LOOKUP_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepo;
+    private final DepartmentService departmentService;
+    private final TableVersions tableVersions;
+
+    public EmployeeReferenceResolver(EmployeeRepository employeeRepo, DepartmentService departmentService,
+                                     TableVersions tableVersions) {
+        this.employeeRepo = employeeRepo;
+        this.departmentService = departmentService;
+        this.tableVersions = tableVersions;
+    }
+
+    public void resolve(Leave leave) {
+        if (leave.getEmployeeId() == null) {
+            leave.setEmployeeId(uniqueIdByName(leave.getName()));
+        }
+    }
+
+    public void resolve(Salary salary) {
+        if (salary.getEmployeeId() == null) {
+            salary.setEmployeeId(uniqueIdByName(salary.getEmployeeName()));
+        }
+    }
+
+    // Update के बाद: name बदला पर employeeId वही पुराना रहा (client ने सिर्फ name बदला) तो वो id पुराने employee की है
+    public void resolve(Salary salary, String previousName, Long previousEmployeeId) {
+        if (!Objects.equals(previousName, salary.getEmployeeName())
+                && Objects.equals(previousEmployeeId, salary.getEmployeeId())) {
+            salary.setEmployeeId(null);
+        }
+        resolve(salary);
+    }
+
+    // Department name हर save पर दोबारा resolve – PUT body में departmentId नहीं आता
+    public void resolve(Employee employee) {
+        resolveDepartments(List.of(employee));
+    }
+
+    public void resolveDepartments(Collection<Employee> employees) {
+        Map<String, Long> ids = new HashMap<>();
+        for (Department d : departmentService.getAll(tableVersions.stamp("departments").version())) {
+            ids.put(d.getName(), d.getId());
+        }
+        for (Employee e : employees) {
+            e.setDepartmentId(e.getDepartment() == null ? null : ids.get(e.getDepartment()));
+        }
+    }
+
+    // Bulk payroll: names chunks में एक query से
+    public void resolveSalaries(Collection<Salary> salaries) {
+        Set<String> names = new HashSet<>();
+        for (Salary s : salaries) {
+            if (s.getEmployeeId() == null && s.getEmployeeName() != null) {
+                names.add(s.getEmployeeName());
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+        Map<String, Long> ids = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        List<String> all = new ArrayList<>(names);
+        for (int i = 0; i < all.size(); i += NAME_LOOKUP_SIZE) {
+            for (Object[] row : employeeRepo.findIdsByNames(all.subList(i, Math.min(i + NAME_LOOKUP_SIZE, all.size())))) {
+                String name = (String) row[0];
+                if (ids.putIfAbsent(name, (Long) row[1]) != null) {
+                    ambiguous.add(name);
+                }
+            }
+        }
+        ambiguous.forEach(ids::remove);
+        for (Salary s : salaries) {
+            if (s.getEmployeeId() == null && s.getEmployeeName() != null) {
+                s.setEmployeeId(ids.get(s.getEmployeeName()));
+            }
+        }
+    }
+
+    private Long uniqueIdByName(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        List<Long> ids = employeeRepo.findIdsByName(name);
+        return ids.size() == 1 ? ids.get(0) : null;
+    }
+}
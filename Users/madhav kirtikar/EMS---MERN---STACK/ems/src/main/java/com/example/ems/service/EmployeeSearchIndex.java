@@ -0,0 +1,335 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.EmployeeDTO;
+import com.example.ems.model.Employee;
+import com.example.ems.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employees (name, email, department, position) का in-memory inverted index.
+ * Startup पर DB से एक बार बनता है, फिर EmployeeController/BulkImportService हर write पर update करते हैं.
+ * <p>
+ * Matching हर query token पर: exact term > prefix (TreeMap range) > एक typo (delete-neighbourhood lookup,
+ * पूरी vocabulary scan नहीं होती). सारे tokens match होने चाहिए (AND).
+ * Index हर instance का अपना है; दूसरे node के writes employees table version (TableVersions) के poll से आते हैं –
+ * version बदला तो पूरा index दोबारा बनता है.
+ */
+@Service
+public class EmployeeSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    // इससे छोटे tokens पर typo matching बहुत ज़्यादा noise देती है
+    static final int MIN_FUZZY_LENGTH = 4;
+
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+
+    private final EmployeeRepository repo;
+    private final TableVersions tableVersions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // जिस employees table version से index बना; poll इससे compare करता है
+    private volatile String builtFrom;
+
+    private final Map<Long, EmployeeDTO> docs = new HashMap<>();
+    private final Map<Long, Set<String>> termsByDoc = new HashMap<>();
+    // term -> employee ids; sorted ताकि prefix एक subMap range हो
+    private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+    // term से एक character हटाकर बना variant -> original terms
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+
+    public EmployeeSearchIndex(EmployeeRepository repo, TableVersions tableVersions) {
+        this.repo = repo;
+        this.tableVersions = tableVersions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        // Rows पढ़ने से पहले: बीच में आया write नया version देगा और अगला poll फिर rebuild करेगा
+        String tableVersion = tableVersions.stamp("employees").version();
+        List<EmployeeDTO> all = repo.findAllSummaries();
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            termsByDoc.clear();
+            postings.clear();
+            deletions.clear();
+            all.forEach(this::addUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        builtFrom = tableVersion;
+        log.info("Employee search index built: {} employees, {} terms in {} ms",
+                all.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // इस node के writes upsert से तुरंत दिखते हैं; उनसे भी version बढ़ता है तो अगला poll एक बार rebuild करता है
+    @Scheduled(initialDelayString = "${app.search.refresh-interval:30s}",
+            fixedDelayString = "${app.search.refresh-interval:30s}")
+    void refreshIfChanged() {
+        try {
+            if (!tableVersions.stamp("employees").version().equals(builtFrom)) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Employee search index refresh skipped: {}", e.getMessage());
+        }
+    }
+
+    public void upsert(Employee employee) {
+        upsert(toDoc(employee));
+    }
+
+    public void upsert(EmployeeDTO doc) {
+        if (doc.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(doc.getId());
+            addUnlocked(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertAll(Collection<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            for (Employee e : employees) {
+                if (e.getId() != null) {
+                    removeUnlocked(e.getId());
+                    addUnlocked(toDoc(e));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EmployeeDTO> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Long, Integer> matches = match(token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    Map<Long, Integer> both = new HashMap<>();
+                    for (Map.Entry<Long, Integer> e : scores.entrySet()) {
+                        Integer s = matches.get(e.getKey());
+                        if (s != null) {
+                            both.put(e.getKey(), e.getValue() + s);
+                        }
+                    }
+                    scores = both;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            Map<Long, Integer> finalScores = scores;
+            return finalScores.keySet().stream()
+                    .sorted(Comparator.<Long>comparingInt(finalScores::get).reversed()
+                            .thenComparing(id -> nullToEmpty(docs.get(id).getName()))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .map(docs::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // एक token के लिए id -> best score
+    private Map<Long, Integer> match(String token) {
+        Map<Long, Integer> result = new HashMap<>();
+        // prefix range में exact term भी आता है
+        for (Map.Entry<String, Set<Long>> e : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            int score = e.getKey().equals(token) ? EXACT_SCORE : PREFIX_SCORE;
+            for (Long id : e.getValue()) {
+                result.merge(id, score, Math::max);
+            }
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            for (String term : fuzzyTerms(token)) {
+                for (Long id : postings.get(term)) {
+                    result.merge(id, FUZZY_SCORE, Math::max);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Edit distance 1 (insert/delete/substitute/adjacent swap) वाले indexed terms
+    private Set<String> fuzzyTerms(String token) {
+        Set<String> candidates = new HashSet<>();
+        // token में एक char missing था: term की deletion == token
+        candidates.addAll(deletions.getOrDefault(token, Set.of()));
+        for (String variant : deletionsOf(token)) {
+            // token में एक extra char था
+            if (postings.containsKey(variant)) {
+                candidates.add(variant);
+            }
+            // substitution / transposition: दोनों की एक deletion same है
+            candidates.addAll(deletions.getOrDefault(variant, Set.of()));
+        }
+        candidates.removeIf(term -> term.equals(token) || !withinOneEdit(token, term));
+        return candidates;
+    }
+
+    private void addUnlocked(EmployeeDTO doc) {
+        Set<String> terms = new HashSet<>();
+        for (String field : new String[] {doc.getName(), doc.getEmail(), doc.getDepartment(), doc.getPosition()}) {
+            terms.addAll(tokenize(field));
+        }
+        if (doc.getEmail() != null && !doc.getEmail().isBlank()) {
+            terms.add(doc.getEmail().trim().toLowerCase(Locale.ROOT));
+        }
+        docs.put(doc.getId(), doc);
+        termsByDoc.put(doc.getId(), terms);
+        for (String term : terms) {
+            Set<Long> ids = postings.computeIfAbsent(term, t -> new HashSet<>());
+            if (ids.isEmpty() && term.length() >= MIN_FUZZY_LENGTH - 1) {
+                for (String variant : deletionsOf(term)) {
+                    deletions.computeIfAbsent(variant, v -> new HashSet<>()).add(term);
+                }
+            }
+            ids.add(doc.getId());
+        }
+    }
+
+    private void removeUnlocked(Long id) {
+        docs.remove(id);
+        Set<String> terms = termsByDoc.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+                for (String variant : deletionsOf(term)) {
+                    Set<String> owners = deletions.get(variant);
+                    if (owners != null) {
+                        owners.remove(term);
+                        if (owners.isEmpty()) {
+                            deletions.remove(variant);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!t.isEmpty()) {
+                tokens.add(t);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> deletionsOf(String term) {
+        Set<String> variants = new HashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    // Optimal string alignment distance <= 1
+    static boolean withinOneEdit(String a, String b) {
+        int la = a.length();
+        int lb = b.length();
+        if (Math.abs(la - lb) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < la && i < lb && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (la == lb) {
+            if (i == la) {
+                return true;
+            }
+            // substitution
+            if (a.substring(i + 1).equals(b.substring(i + 1))) {
+                return true;
+            }
+            // adjacent swap
+            return i + 1 < la && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.substring(i + 2).equals(b.substring(i + 2));
+        }
+        return la > lb ? a.substring(i + 1).equals(b.substring(i)) : b.substring(i + 1).equals(a.substring(i));
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static EmployeeDTO toDoc(Employee e) {
+        Double salary;
+        try {
+            salary = e.getSalary() == null || e.getSalary().isBlank() ? null : Double.valueOf(e.getSalary().trim());
+        } catch (NumberFormatException ex) {
+            salary = null;
+        }
+        return new EmployeeDTO(e.getId(), e.getName(), e.getDepartment(), e.getPosition(), e.getEmail(),
+                e.getPhone(), e.getAddress(), salary, e.getPhoto(), e.getGender(), e.getAge(), e.getPerformance());
+    }
+}
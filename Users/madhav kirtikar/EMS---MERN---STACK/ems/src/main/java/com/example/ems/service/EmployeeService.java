@@ -1,5 +1,29 @@
 package com.example.ems.service;
 
+import com.example.ems.event.EmployeeCreated;
+import com.example.ems.model.Employee;
+import com.example.ems.repository.EmployeeRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
 public class EmployeeService {
 
+    private final EmployeeRepository repo;
+    private final EmployeeReferenceResolver references;
+    private final DomainEventOutbox outbox;
+
+    public EmployeeService(EmployeeRepository repo, EmployeeReferenceResolver references, DomainEventOutbox outbox) {
+        this.repo = repo;
+        this.references = references;
+        this.outbox = outbox;
+    }
+
+    @Transactional
+    public Employee create(Employee employee) {
+        references.resolve(employee);
+        Employee saved = repo.save(employee);
+        outbox.append(new EmployeeCreated(saved.getId(), saved.getName(), saved.getDepartment(), saved.getEmail()));
+        return saved;
+    }
 }
@@ -1,5 +1,95 @@
 package com.example.ems.service;
 
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.event.EventCreated;
+import com.example.ems.model.Event;
+import com.example.ems.repository.EventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Events list cache से, हर add/update/delete पर evict. Key TableVersions stamp है (DepartmentService जैसा)
+@Service
 public class EventService {
 
+    public static final String CACHE = "events";
+
+    private final EventRepository repo;
+    private final VersionedUpdates versionedUpdates;
+    private final DomainEventOutbox outbox;
+    private final CacheManager cacheManager;
+
+    public EventService(EventRepository repo, VersionedUpdates versionedUpdates, DomainEventOutbox outbox,
+                        CacheManager cacheManager) {
+        this.repo = repo;
+        this.versionedUpdates = versionedUpdates;
+        this.outbox = outbox;
+        this.cacheManager = cacheManager;
+    }
+
+    /** version: TableVersions.stamp("events").version() – सिर्फ cache key के लिए */
+    @Cacheable(value = CACHE, key = "#version")
+    public List<Event> getAll(String version) {
+        return repo.findAll();
+    }
+
+    public List<Event> getInRange(LocalDate from, LocalDate to) {
+        return repo.findByDateBetweenOrderByDateAsc(from, to);
+    }
+
+    public Event get(Long id) {
+        return repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + id));
+    }
+
+    // नया event सबको (ADMIN + EMPLOYEE) push होता है – outbox से, request के बाद.
+    // यहाँ @CacheEvict नहीं: वो इसी transaction के अंदर, commit से पहले चलता है
+    @Transactional
+    public Event add(Event event) {
+        Event saved = repo.save(event);
+        outbox.append(new EventCreated(saved.getId(), saved.getTitle(), saved.getDate()));
+        evictAfterCommit();
+        return saved;
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public Event update(Long id, String ifMatch, Event event) {
+        return versionedUpdates.replace(repo, id, ifMatch, event);
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public Event patch(Long id, String ifMatch, JsonNode changes) {
+        return versionedUpdates.patch(repo, id, ifMatch, changes);
+    }
+
+    @CacheEvict(value = CACHE, allEntries = true)
+    public void delete(Long id) {
+        repo.deleteById(id);
+    }
+
+    // Commit से पहले evict किया तो बीच में आई list request पुरानी rows फिर से cache कर लेती है
+    private void evictAfterCommit() {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.clear();
+                }
+            });
+        } else {
+            cache.clear();
+        }
+    }
 }
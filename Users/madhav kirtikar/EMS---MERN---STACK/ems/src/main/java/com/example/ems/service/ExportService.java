@@ -0,0 +1,163 @@
+package com.example.ems.service;
+
+import com.example.ems.dto.EmployeeDTO;
+import com.example.ems.dto.LeaveDTO;
+import com.example.ems.dto.SalaryDTO;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.repository.LeaveRepository;
+import com.example.ems.repository.SalaryRepository;
+import com.example.ems.util.Csv;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Employees/salaries/leaves को row-by-row stream करता है (NDJSON या CSV).
+ * Rows DB cursor से पढ़ी जाती हैं और तुरंत लिख दी जाती हैं – memory rows की गिनती पर depend नहीं करती.
+ * Output id order में है, इसलिए client आख़िरी देखी id को afterId बना कर resume कर सकता है.
+ */
+@Service
+public class ExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final int FLUSH_EVERY = 500;
+
+    private record Column<T>(String header, Function<T, Object> value) {}
+
+    private static final List<Column<EmployeeDTO>> EMPLOYEE_COLUMNS = List.of(
+            new Column<>("id", EmployeeDTO::getId),
+            new Column<>("name", EmployeeDTO::getName),
+            new Column<>("department", EmployeeDTO::getDepartment),
+            new Column<>("position", EmployeeDTO::getPosition),
+            new Column<>("email", EmployeeDTO::getEmail),
+            new Column<>("phone", EmployeeDTO::getPhone),
+            new Column<>("address", EmployeeDTO::getAddress),
+            new Column<>("salary", EmployeeDTO::getSalary),
+            new Column<>("gender", EmployeeDTO::getGender),
+            new Column<>("age", EmployeeDTO::getAge),
+            new Column<>("performance", EmployeeDTO::getPerformance));
+
+    private static final List<Column<SalaryDTO>> SALARY_COLUMNS = List.of(
+            new Column<>("id", SalaryDTO::getId),
+            new Column<>("employeeName", SalaryDTO::getEmployeeName),
+            new Column<>("month", SalaryDTO::getMonth),
+            new Column<>("amount", SalaryDTO::getAmount),
+            new Column<>("status", SalaryDTO::getStatus));
+
+    private static final List<Column<LeaveDTO>> LEAVE_COLUMNS = List.of(
+            new Column<>("id", LeaveDTO::getId),
+            new Column<>("name", LeaveDTO::getName),
+            new Column<>("department", LeaveDTO::getDepartment),
+            new Column<>("fromDate", LeaveDTO::getFromDate),
+            new Column<>("toDate", LeaveDTO::getToDate),
+            new Column<>("reason", LeaveDTO::getReason),
+            new Column<>("status", LeaveDTO::getStatus));
+
+    private final EmployeeRepository employeeRepo;
+    private final SalaryRepository salaryRepo;
+    private final LeaveRepository leaveRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(EmployeeRepository employeeRepo, SalaryRepository salaryRepo, LeaveRepository leaveRepo,
+                         PlatformTransactionManager txManager, ObjectMapper objectMapper) {
+        this.employeeRepo = employeeRepo;
+        this.salaryRepo = salaryRepo;
+        this.leaveRepo = leaveRepo;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public void exportEmployees(OutputStream out, Format format, long afterId) throws IOException {
+        export(out, format, EMPLOYEE_COLUMNS, () -> employeeRepo.streamSummariesAfter(afterId));
+    }
+
+    public void exportSalaries(OutputStream out, Format format, long afterId) throws IOException {
+        export(out, format, SALARY_COLUMNS, () -> salaryRepo.streamAfter(afterId));
+    }
+
+    public void exportLeaves(OutputStream out, Format format, long afterId) throws IOException {
+        export(out, format, LEAVE_COLUMNS, () -> leaveRepo.streamAfter(afterId));
+    }
+
+    // Stream<T> सिर्फ open transaction के अंदर ही पढ़ा जा सकता है (cursor उसी connection पर है)
+    private <T> void export(OutputStream out, Format format, List<Column<T>> columns,
+                            Supplier<Stream<T>> rows) throws IOException {
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    if (format == Format.CSV) {
+                        writeCsv(out, columns, stream.iterator());
+                    } else {
+                        writeNdjson(out, stream.iterator());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private <T> void writeNdjson(OutputStream out, Iterator<T> rows) throws IOException {
+        // response stream controller का है – Jackson उसे close न करे
+        SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+        int n = 0;
+        while (rows.hasNext()) {
+            writer.write(rows.next());
+            if (++n % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.close();
+        if (n > 0) {
+            out.write('\n');
+        }
+    }
+
+    private <T> void writeCsv(OutputStream out, List<Column<T>> columns, Iterator<T> rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, columns.stream().map(c -> (Object) c.header()).toList());
+        int n = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            writeCsvLine(writer, columns.stream().map(c -> c.value().apply(row)).toList());
+            if (++n % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(Csv.escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+}
@@ -1,5 +1,288 @@
 package com.example.ems.service;
 
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.dto.LeaveBalanceDTO;
+import com.example.ems.dto.LeaveDTO;
+import com.example.ems.dto.LeaveTransitionResultDTO;
+import com.example.ems.event.LeaveDeleted;
+import com.example.ems.event.LeaveRequested;
+import com.example.ems.event.LeaveStatusChanged;
+import com.example.ems.model.Employee;
+import com.example.ems.model.Leave;
+import com.example.ems.model.LeaveStatus;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.repository.LeaveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Leave workflow ({@link LeaveStatus} state machine). नई leave पर overlap और balance check transaction के अंदर DB से
+ * होता है, employee row lock के साथ – दो nodes पर एक साथ आई requests भी एक-एक करके check होती हैं.
+ * /balance भी उसी query से निकलता है, तो हर node वही balance दिखाता है जिससे check होता है.
+ */
+@Service
 public class LeaveService {
 
+    // एक bulk request में इससे ज़्यादा ids नहीं – IN list और locked rows दोनों bounded रहें
+    static final int MAX_BULK_SIZE = 1000;
+
+    private final LeaveRepository repo;
+    private final EmployeeRepository employees;
+    private final EmployeeReferenceResolver references;
+    private final VersionedUpdates versionedUpdates;
+    private final DomainEventOutbox outbox;
+    private final TableVersions tableVersions;
+    private final int annualAllowance;
+
+    public LeaveService(LeaveRepository repo, EmployeeRepository employees, EmployeeReferenceResolver references,
+                        VersionedUpdates versionedUpdates, DomainEventOutbox outbox, TableVersions tableVersions,
+                        @Value("${app.leaves.annual-allowance:24}") int annualAllowance) {
+        this.repo = repo;
+        this.employees = employees;
+        this.references = references;
+        this.versionedUpdates = versionedUpdates;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
+        this.annualAllowance = annualAllowance;
+    }
+
+    public Leave get(Long id) {
+        return repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Leave not found with ID: " + id));
+    }
+
+    public List<Leave> getAll() {
+        return repo.findAll();
+    }
+
+    public List<Leave> getInRange(LocalDate from, LocalDate to, String status) {
+        return repo.findOverlapping(from, to, status);
+    }
+
+    // Employee की पूरी leave history id से; name/department employee के current record से (rename के बाद भी)
+    @Transactional(readOnly = true)
+    public List<LeaveDTO> getForEmployee(Long employeeId) {
+        return repo.findByEmployeeIdOrderByFromDateDesc(employeeId).stream()
+                .map(l -> {
+                    Employee e = l.getEmployee();
+                    return new LeaveDTO(l.getId(), e != null ? e.getName() : l.getName(),
+                            e != null ? e.getDepartment() : l.getDepartment(),
+                            l.getFromDate(), l.getToDate(), l.getReason(), l.getStatus());
+                })
+                .toList();
+    }
+
+    // Year पार करने वाली leave के सिर्फ उस year के दिन
+    public LeaveBalanceDTO balance(Long employeeId, int year) {
+        LocalDate start = LocalDate.ofYearDay(year, 1);
+        LocalDate end = start.withDayOfYear(start.lengthOfYear());
+        long approved = 0;
+        long pending = 0;
+        for (Leave l : repo.findActiveForEmployee(employeeId, start, end)) {
+            long days = daysWithin(l, start, end);
+            if (LeaveStatus.parse(l.getStatus()) == LeaveStatus.APPROVED) {
+                approved += days;
+            } else {
+                pending += days;
+            }
+        }
+        return new LeaveBalanceDTO(employeeId, year, annualAllowance, approved, pending);
+    }
+
+    @Transactional
+    public Leave add(Leave leave) {
+        if (leave.getFromDate() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromDate is required");
+        }
+        if (leave.getToDate() == null) {
+            leave.setToDate(leave.getFromDate());
+        } else if (leave.getToDate().isBefore(leave.getFromDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "toDate is before fromDate");
+        }
+        references.resolve(leave);
+        leave.setStatus(LeaveStatus.PENDING.name());
+        // Name से employee resolve न हो (duplicate name) तो किसकी leave है पता नहीं – बिना checks save नहीं करते
+        if (leave.getEmployeeId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "name '" + leave.getName() + "' does not match exactly one employee; send employeeId");
+        }
+        checkAgainstExisting(leave);
+        Leave saved = repo.save(leave);
+        // Aggregates/notification DomainEventHandlers में, request के बाद
+        outbox.append(new LeaveRequested(saved.getId(), saved.getEmployeeId(), saved.getName(),
+                saved.getFromDate(), saved.getToDate()));
+        return saved;
+    }
+
+    // दो admins एक साथ approve/reject करें तो दूसरे को 409/412 मिलता है, चुपचाप overwrite नहीं
+    @Transactional
+    public Leave updateStatus(Long id, String status, String ifMatch, Long expectedVersion) {
+        LeaveStatus target = parse(status);
+        AtomicReference<String> previous = new AtomicReference<>();
+        Leave saved = versionedUpdates.apply(repo, id, ifMatch, expectedVersion, l -> {
+            previous.set(l.getStatus());
+            // Same status दोबारा भेजना no-op है (पुराना "Approved" canonical हो जाता है), error नहीं
+            if (LeaveStatus.parse(l.getStatus()) != target) {
+                String reason = rejectReason(l, target);
+                if (reason != null) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, reason);
+                }
+            }
+            l.setStatus(target.name());
+        });
+        if (LeaveStatus.parse(previous.get()) != target) {
+            outbox.append(new LeaveStatusChanged(saved.getId(), saved.getEmployeeId(), saved.getName(),
+                    saved.getFromDate(), saved.getToDate(), previous.get(), saved.getStatus()));
+        }
+        return saved;
+    }
+
+    /**
+     * कई leaves एक साथ approve/reject/cancel. Statements: rows का locked select, एक UPDATE, outbox का एक batch insert
+     * और commit के बाद table version – ids कितनी भी हों. जो leave transition नहीं कर सकती वो skip होती है, पूरा batch
+     * fail नहीं होता.
+     */
+    @Transactional
+    public LeaveTransitionResultDTO transition(Collection<Long> ids, String status) {
+        LeaveStatus target = parse(status);
+        Set<Long> requested = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        if (requested.isEmpty() || requested.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must have 1 to " + MAX_BULK_SIZE + " values");
+        }
+        Map<Long, Leave> found = repo.findAllByIdForUpdate(requested).stream()
+                .collect(Collectors.toMap(Leave::getId, Function.identity()));
+        LeaveTransitionResultDTO result = new LeaveTransitionResultDTO(target.name());
+        List<Leave> eligible = new ArrayList<>();
+        for (Long id : requested) {
+            Leave l = found.get(id);
+            String reason = l == null ? "Leave not found" : rejectReason(l, target);
+            if (reason != null) {
+                result.skip(id, reason);
+            } else {
+                eligible.add(l);
+                result.getUpdated().add(id);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return result;
+        }
+        repo.updateStatus(result.getUpdated(), target.name());
+        outbox.appendAll(eligible.stream()
+                .map(l -> new LeaveStatusChanged(l.getId(), l.getEmployeeId(), l.getName(),
+                        l.getFromDate(), l.getToDate(), l.getStatus(), target.name()))
+                .toList());
+        // JPQL UPDATE TableChangeTracker को नहीं दिखता
+        afterCommit(() -> tableVersions.bump("leaves"));
+        return result;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        repo.findById(id).ifPresent(l -> {
+            repo.delete(l);
+            outbox.append(new LeaveDeleted(l.getId(), l.getEmployeeId(), l.getName()));
+        });
+    }
+
+    // null = transition allowed. Unknown पुराना status (हाथ से डाला गया) किसी भी status में जा सकता है
+    private static String rejectReason(Leave leave, LeaveStatus target) {
+        LeaveStatus current = LeaveStatus.parse(leave.getStatus());
+        if (current == target) {
+            return "Leave is already " + target;
+        }
+        if (current != null && !current.canMoveTo(target)) {
+            return "Leave cannot move from " + current + " to " + target;
+        }
+        return null;
+    }
+
+    private static LeaveStatus parse(String status) {
+        LeaveStatus parsed = LeaveStatus.parse(status);
+        if (parsed == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown leave status: " + status);
+        }
+        return parsed;
+    }
+
+    /**
+     * Employee row lock के बाद उसकी active leaves (request के years की पूरी range) एक query में: पहले overlap,
+     * फिर हर year की balance. Lock commit तक रहता है, तो दूसरी request इस leave को देखकर ही check होती है.
+     */
+    private void checkAgainstExisting(Leave leave) {
+        employees.lockById(leave.getEmployeeId())
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + leave.getEmployeeId()));
+        LocalDate yearStart = LocalDate.ofYearDay(leave.getFromDate().getYear(), 1);
+        LocalDate yearEnd = LocalDate.of(leave.getToDate().getYear(), 12, 31);
+        List<Leave> existing = repo.findActiveForEmployee(leave.getEmployeeId(), yearStart, yearEnd);
+        for (Leave o : existing) {
+            if (daysWithin(o, leave.getFromDate(), leave.getToDate()) > 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Overlaps leave " + o.getId() + " ("
+                        + o.getFromDate() + " to " + endDate(o) + ", " + o.getStatus() + ")");
+            }
+        }
+        checkBalance(leave, existing);
+    }
+
+    // Year पार करने वाली request हर year की balance से अलग कटती है. allowance <= 0 = कोई limit नहीं
+    private void checkBalance(Leave requested, List<Leave> existing) {
+        if (annualAllowance <= 0) {
+            return;
+        }
+        for (int year = requested.getFromDate().getYear(); year <= requested.getToDate().getYear(); year++) {
+            LocalDate start = LocalDate.ofYearDay(year, 1);
+            LocalDate end = start.withDayOfYear(start.lengthOfYear());
+            long days = daysWithin(requested, start, end);
+            long used = existing.stream().mapToLong(l -> daysWithin(l, start, end)).sum();
+            long remaining = annualAllowance - used;
+            if (days > remaining) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Leave balance for " + year + " is "
+                        + Math.max(0, remaining) + " days, " + days + " requested");
+            }
+        }
+    }
+
+    // Leave के [start, end] में पड़ने वाले दिन (दोनों inclusive). पुरानी leave जिसकी end date नहीं, एक दिन की है
+    static long daysWithin(Leave leave, LocalDate start, LocalDate end) {
+        LocalDate s = leave.getFromDate().isBefore(start) ? start : leave.getFromDate();
+        LocalDate e = endDate(leave).isAfter(end) ? end : endDate(leave);
+        return e.isBefore(s) ? 0 : ChronoUnit.DAYS.between(s, e) + 1;
+    }
+
+    private static LocalDate endDate(Leave leave) {
+        return leave.getToDate() == null ? leave.getFromDate() : leave.getToDate();
+    }
+
+    // Version bump commit के बाद ही – rollback हुई write पर clients का ETag नहीं बदलना चाहिए
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
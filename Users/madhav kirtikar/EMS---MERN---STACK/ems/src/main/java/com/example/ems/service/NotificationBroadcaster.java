@@ -0,0 +1,206 @@
+package com.example.ems.service;
+
+import com.example.ems.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Connected SSE clients, role के हिसाब से (ADMIN / EMPLOYEE). Idle connection पर कोई thread नहीं बैठता –
+ * Tomcat async request सिर्फ एक socket + SseEmitter object है. हर client की अपनी queue है जिसे एक समय पर एक ही
+ * virtual thread drain करता है: events publish order में पहुँचते हैं, और धीमा client publish करने वाले request को
+ * या बाकी clients को नहीं रोकता.
+ */
+@Service
+public class NotificationBroadcaster {
+
+    public static final String ALL = "ALL";
+
+    // इससे ज़्यादा events pending = client अटका है; connection बंद, EventSource Last-Event-ID से replay लेकर लौटेगा
+    private static final int MAX_QUEUED = 1000;
+
+    private record Queued(Long notificationId, SseEmitter.SseEventBuilder event) {}
+
+    private final Map<String, Set<Subscriber>> emittersByRole = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration timeout;
+
+    public NotificationBroadcaster(@Value("${app.notifications.sse-timeout:30m}") Duration timeout,
+                                   MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        meterRegistry.gauge("ems.notifications.subscribers", emittersByRole,
+                m -> m.values().stream().mapToInt(Set::size).sum());
+    }
+
+    /**
+     * Timeout के बाद browser का EventSource खुद reconnect करता है (Last-Event-ID के साथ).
+     * missed (छूटी notifications) register होने के बाद पढ़ी जाती हैं, तो बीच में publish हुई कोई notification खोती नहीं;
+     * वो live events से पहले उसी queue से जाती हैं.
+     */
+    public SseEmitter subscribe(String role, Supplier<List<Notification>> missed) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Set<Subscriber> subscribers = emittersByRole.computeIfAbsent(role, r -> ConcurrentHashMap.newKeySet());
+        Subscriber subscriber = new Subscriber(subscribers, emitter);
+        subscribers.add(subscriber);
+        Runnable remove = () -> subscribers.remove(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        try {
+            subscriber.start(missed.get());
+        } catch (RuntimeException e) {
+            remove.run();
+            throw e;
+        }
+        return emitter;
+    }
+
+    public void broadcast(Notification notification) {
+        String target = notification.getTargetRole() == null ? ALL : notification.getTargetRole();
+        emittersByRole.forEach((role, subscribers) -> {
+            if (ALL.equalsIgnoreCase(target) || role.equalsIgnoreCase(target)) {
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.enqueue(new Queued(notification.getId(), event(notification)));
+                }
+            }
+        });
+    }
+
+    public static SseEmitter.SseEventBuilder event(Notification notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name("notification")
+                .data(notification);
+    }
+
+    // Proxies/load balancers idle connections काट देते हैं; comment line से connection ज़िंदा रहता है
+    @Scheduled(fixedDelayString = "${app.notifications.heartbeat:25s}")
+    void heartbeat() {
+        emittersByRole.values().forEach(subscribers -> {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(new Queued(null, SseEmitter.event().comment("keepalive")));
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        emittersByRole.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+        senders.shutdown();
+    }
+
+    // एक client की queue. Replay शुरू होने तक (start) live events सिर्फ जमा होते हैं, भेजे नहीं जाते
+    private final class Subscriber {
+
+        private final Set<Subscriber> owner;
+        private final SseEmitter emitter;
+        private final Deque<Queued> queue = new ArrayDeque<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(Set<Subscriber> owner, SseEmitter emitter) {
+            this.owner = owner;
+            this.emitter = emitter;
+        }
+
+        // Replay पहले; subscribe और replay query के बीच आई live copy (id replay में है) दोबारा नहीं जाती
+        void start(List<Notification> missed) {
+            synchronized (this) {
+                List<Queued> live = new ArrayList<>(queue);
+                queue.clear();
+                long replayedUpTo = Long.MIN_VALUE;
+                for (Notification n : missed) {
+                    queue.add(new Queued(n.getId(), event(n)));
+                    replayedUpTo = Math.max(replayedUpTo, n.getId());
+                }
+                for (Queued q : live) {
+                    if (q.notificationId() == null || q.notificationId() > replayedUpTo) {
+                        queue.add(q);
+                    }
+                }
+                started = true;
+            }
+            scheduleDrain();
+        }
+
+        void enqueue(Queued item) {
+            boolean overflow;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                overflow = queue.size() >= MAX_QUEUED;
+                if (!overflow) {
+                    queue.add(item);
+                }
+            }
+            if (overflow) {
+                close(null);
+            } else {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (!started || draining || closed || queue.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                Queued next;
+                synchronized (this) {
+                    next = closed ? null : queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next.event());
+                } catch (IOException | IllegalStateException e) {
+                    // Client चला गया
+                    close(e);
+                }
+            }
+        }
+
+        private void close(Throwable error) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            owner.remove(this);
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+    }
+}
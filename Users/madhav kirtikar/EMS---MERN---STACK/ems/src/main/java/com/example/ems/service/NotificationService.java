@@ -0,0 +1,59 @@
+package com.example.ems.service;
+
+import com.example.ems.model.Notification;
+import com.example.ems.repository.NotificationRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class NotificationService {
+
+    private static final int REPLAY_LIMIT = 100;
+
+    private final NotificationRepository repo;
+    private final NotificationBroadcaster broadcaster;
+
+    public NotificationService(NotificationRepository repo, NotificationBroadcaster broadcaster) {
+        this.repo = repo;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Caller के transaction में save; push commit के बाद ही, ताकि rollback हुआ change client तक न पहुँचे.
+     */
+    @Transactional
+    public Notification publish(String title, String message, String targetRole) {
+        Notification n = new Notification();
+        n.setTitle(title);
+        n.setMessage(message);
+        n.setTargetRole(targetRole);
+        n.setDate(LocalDateTime.now());
+        Notification saved = repo.save(n);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcaster.broadcast(saved);
+                }
+            });
+        } else {
+            broadcaster.broadcast(saved);
+        }
+        return saved;
+    }
+
+    public List<Notification> recent(String role, int limit) {
+        return repo.findByTargetRoleInOrderByIdDesc(List.of(role, NotificationBroadcaster.ALL), Limit.of(limit));
+    }
+
+    public List<Notification> since(String role, Long lastId) {
+        return repo.findByTargetRoleInAndIdGreaterThanOrderByIdAsc(
+                List.of(role, NotificationBroadcaster.ALL), lastId, Limit.of(REPLAY_LIMIT));
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.ems.service;
+
+import com.example.ems.event.DomainEvent;
+import com.example.ems.model.OutboxEvent;
+import com.example.ems.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox poller. हर tick पर:
+ * <ol>
+ *   <li>एक छोटे transaction में due PENDING rows SKIP LOCKED से claim (availableAt = now + lease), ताकि
+ *       दूसरे instances इन्हें न उठाएँ और यहाँ crash हो तो lease के बाद फिर से उठें</li>
+ *   <li>हर event अपने transaction में @EventListener handlers को dispatch; handler का DB काम और DONE mark
+ *       एक साथ commit होते हैं</li>
+ *   <li>Fail हो तो attempts++ और exponential backoff; maxAttempts के बाद FAILED (हाथ से देखो)</li>
+ * </ol>
+ * Delivery at-least-once है.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository repo;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retention;
+    private final Map<String, Class<?>> types = new HashMap<>();
+
+    public OutboxDispatcher(OutboxEventRepository repo, ApplicationEventPublisher publisher, ObjectMapper objectMapper,
+                            PlatformTransactionManager txManager,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.lease:60s}") Duration lease,
+                            @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.repo = repo;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retention = retention;
+        for (Class<?> type : DomainEvent.class.getPermittedSubclasses()) {
+            types.put(type.getSimpleName(), type);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:500ms}")
+    public void poll() {
+        List<OutboxEvent> claimed;
+        do {
+            claimed = claim();
+            for (OutboxEvent row : claimed) {
+                dispatch(row);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    private List<OutboxEvent> claim() {
+        return tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = repo.lockDue(now, batchSize);
+            LocalDateTime leaseUntil = now.plus(lease);
+            due.forEach(row -> row.setAvailableAt(leaseUntil));
+            return due;
+        });
+    }
+
+    private void dispatch(OutboxEvent row) {
+        try {
+            tx.executeWithoutResult(status -> {
+                publisher.publishEvent(deserialize(row));
+                OutboxEvent managed = repo.getReferenceById(row.getId());
+                managed.setStatus(OutboxEvent.DONE);
+                managed.setProcessedAt(LocalDateTime.now());
+                managed.setAttempts(managed.getAttempts() + 1);
+            });
+        } catch (RuntimeException e) {
+            recordFailure(row.getId(), e);
+        }
+    }
+
+    private void recordFailure(Long id, RuntimeException error) {
+        tx.executeWithoutResult(status -> repo.findById(id).ifPresent(row -> {
+            int attempts = row.getAttempts() + 1;
+            row.setAttempts(attempts);
+            String message = String.valueOf(error.getMessage());
+            row.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            if (attempts >= maxAttempts) {
+                row.setStatus(OutboxEvent.FAILED);
+                log.error("Outbox event {} ({}) failed {} times, giving up", id, row.getEventType(), attempts, error);
+            } else {
+                // 1s, 2s, 4s ... max 10 min
+                long backoffSeconds = Math.min(600, 1L << Math.min(attempts - 1, 20));
+                row.setAvailableAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+                log.warn("Outbox event {} ({}) failed, retry #{} in {}s: {}",
+                        id, row.getEventType(), attempts, backoffSeconds, message);
+            }
+        }));
+    }
+
+    private Object deserialize(OutboxEvent row) {
+        Class<?> type = types.get(row.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type " + row.getEventType());
+        }
+        try {
+            return objectMapper.readValue(row.getPayload(), type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot read outbox payload " + row.getId(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        Integer deleted = tx.execute(status -> repo.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} processed outbox events", deleted);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.ems.service;
+
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.model.PayrollChunk;
+import com.example.ems.model.PayrollRun;
+import com.example.ems.model.Salary;
+import com.example.ems.repository.PayrollChunkRepository;
+import com.example.ems.repository.PayrollRunRepository;
+import com.example.ems.util.Amounts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Monthly payroll run.
+ * <p>
+ * Start पर employee ids chunks (id ranges) में बँटकर payroll_chunk में checkpoint होते हैं. हर chunk अपने
+ * transaction में: employees + उस month की attendance/approved leaves एक-एक grouped query से, pay compute,
+ * salaries batch insert, chunk DONE. Chunks virtual threads पर parallel चलते हैं; parallelism DB pool से कम रखो.
+ * Crash/restart पर RUNNING runs के बचे PENDING chunks से resume होता है. एक month का एक ही run चलता है
+ * (payroll_run.active_month unique) और chunk row lock से claim होता है, तो कोई salary दो बार नहीं बनती.
+ * <p>
+ * Pay = base (Employee.salary, monthly) × (working days − unpaid days) / working days.
+ * Working days = Mon–Fri. Unpaid = Absent (1) / Half-day (0.5) attendance, जो किसी approved leave में न आए.
+ * जिनकी उस month की salary पहले से है वो skip होते हैं – इसी से run idempotent है. साथ में चला manual add
+ * uk_salaries_employee_month से टकराए तो chunk rollback होता है और run FAILED; दोबारा start करने पर वो employee skip.
+ */
+@Service
+public class PayrollService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollService.class);
+
+    private static final String EMPLOYEES_SQL = """
+        select id, name, salary from employees where id between :firstId and :lastId order by id
+        """;
+    // पुरानी manual salaries में employee_id null हो सकता है (duplicate names) – तब name से
+    private static final String EXISTING_SQL = """
+        select e.id from employees e
+        join salaries s on s.employee_id = e.id or (s.employee_id is null and s.employee_name = e.name)
+        where s.pay_month = :month and e.id between :firstId and :lastId
+        """;
+    private static final String ABSENCES_SQL = """
+        select employee_id, attendance_date, status from attendance
+        where employee_id between :firstId and :lastId
+          and attendance_date >= :monthStart and attendance_date < :nextMonthStart
+          and lower(status) in ('absent', 'half-day', 'half day', 'halfday')
+        """;
+    // पुरानी leaves में end_date null हो सकती है – वो एक दिन की है (LeaveService जैसा)
+    private static final String APPROVED_LEAVES_SQL = """
+        select employee_id, start_date, coalesce(end_date, start_date) as end_date from leaves
+        where employee_id between :firstId and :lastId
+          and upper(status) = 'APPROVED'
+          and start_date < :nextMonthStart and coalesce(end_date, start_date) >= :monthStart
+        """;
+
+    private final PayrollRunRepository runRepo;
+    private final PayrollChunkRepository chunkRepo;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+    private final Semaphore parallelism;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public PayrollService(PayrollRunRepository runRepo, PayrollChunkRepository chunkRepo,
+                          NamedParameterJdbcTemplate jdbc, PlatformTransactionManager txManager,
+                          @Value("${app.payroll.chunk-size:1000}") int chunkSize,
+                          @Value("${app.payroll.parallelism:4}") int parallelism) {
+        this.runRepo = runRepo;
+        this.chunkRepo = chunkRepo;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = new Semaphore(parallelism);
+    }
+
+    public PayrollRun start(YearMonth month) {
+        PayrollRun run;
+        try {
+            run = tx.execute(status -> {
+                if (runRepo.existsByMonthAndStatus(month, PayrollRun.RUNNING)) {
+                    throw alreadyRunning(month);
+                }
+                PayrollRun r = new PayrollRun();
+                r.setMonth(month);
+                r.setActiveMonth(month);
+                r.setStartedAt(LocalDateTime.now());
+                // Check के बाद कोई और भी start कर चुका हो तो यहीं uk_payroll_run_active_month से fail
+                runRepo.saveAndFlush(r);
+                plan(r);
+                return r;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyRunning(month);
+        }
+        executor.execute(() -> execute(run.getId()));
+        return run;
+    }
+
+    private static ResponseStatusException alreadyRunning(YearMonth month) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Payroll for " + month + " is already running");
+    }
+
+    public PayrollRun get(Long id) {
+        return runRepo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Payroll run not found with ID: " + id));
+    }
+
+    public List<PayrollRun> forMonth(YearMonth month) {
+        return runRepo.findByMonthOrderByIdDesc(month);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resumeUnfinished() {
+        for (PayrollRun run : runRepo.findByStatus(PayrollRun.RUNNING)) {
+            log.info("Resuming payroll run {} for {} ({} of {} chunks done)",
+                    run.getId(), run.getMonth(), run.getCompletedChunks(), run.getTotalChunks());
+            executor.execute(() -> execute(run.getId()));
+        }
+    }
+
+    // Ids पढ़कर chunkSize की id ranges; बाद में जुड़े employees इस run में नहीं आते
+    private void plan(PayrollRun run) {
+        List<Long> ids = jdbc.queryForList("select id from employees order by id", Map.of(), Long.class);
+        int chunkNo = 0;
+        List<PayrollChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            PayrollChunk c = new PayrollChunk();
+            c.setRunId(run.getId());
+            c.setChunkNo(chunkNo++);
+            c.setFirstEmployeeId(ids.get(i));
+            c.setLastEmployeeId(ids.get(Math.min(i + chunkSize, ids.size()) - 1));
+            chunks.add(c);
+        }
+        chunkRepo.saveAll(chunks);
+        run.setTotalEmployees(ids.size());
+        run.setTotalChunks(chunks.size());
+    }
+
+    private void execute(Long runId) {
+        PayrollRun run = get(runId);
+        List<PayrollChunk> pending = chunkRepo.findByRunIdAndStatusOrderByChunkNo(runId, PayrollChunk.PENDING);
+        List<Future<?>> futures = new ArrayList<>(pending.size());
+        for (PayrollChunk chunk : pending) {
+            futures.add(executor.submit(() -> {
+                parallelism.acquire();
+                try {
+                    processChunk(run.getMonth(), chunk);
+                } finally {
+                    parallelism.release();
+                }
+                return null;
+            }));
+        }
+        String error = null;
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                log.error("Payroll run {} chunk failed", runId, cause);
+                error = String.valueOf(cause.getMessage());
+            }
+        }
+        String failure = error == null ? null : (error.length() > 1000 ? error.substring(0, 1000) : error);
+        tx.executeWithoutResult(status -> {
+            PayrollRun r = get(runId);
+            r.setStatus(failure == null ? PayrollRun.COMPLETED : PayrollRun.FAILED);
+            r.setActiveMonth(null);
+            r.setLastError(failure);
+            r.setFinishedAt(LocalDateTime.now());
+        });
+        log.info("Payroll run {} for {} finished: {}", runId, run.getMonth(), failure == null ? "completed" : "failed");
+    }
+
+    private void processChunk(YearMonth month, PayrollChunk chunk) {
+        tx.executeWithoutResult(status -> {
+            PayrollChunk claimed = chunkRepo.findByIdForUpdate(chunk.getId()).orElse(null);
+            if (claimed == null || !PayrollChunk.PENDING.equals(claimed.getStatus())) {
+                return;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("firstId", chunk.getFirstEmployeeId())
+                    .addValue("lastId", chunk.getLastEmployeeId())
+                    .addValue("month", month.atDay(1))
+                    .addValue("monthStart", month.atDay(1))
+                    .addValue("nextMonthStart", month.plusMonths(1).atDay(1));
+
+            Set<Long> alreadyPaid = new HashSet<>(jdbc.queryForList(EXISTING_SQL, params, Long.class));
+            Map<Long, Map<LocalDate, Double>> absences = new HashMap<>();
+            jdbc.query(ABSENCES_SQL, params, rs -> {
+                double weight = "absent".equalsIgnoreCase(rs.getString("status")) ? 1.0 : 0.5;
+                absences.computeIfAbsent(rs.getLong("employee_id"), k -> new HashMap<>())
+                        .merge(rs.getObject("attendance_date", LocalDate.class), weight, Math::max);
+            });
+            Map<Long, List<LocalDate[]>> leaves = new HashMap<>();
+            jdbc.query(APPROVED_LEAVES_SQL, params, rs -> {
+                leaves.computeIfAbsent(rs.getLong("employee_id"), k -> new ArrayList<>()).add(new LocalDate[] {
+                        rs.getObject("start_date", LocalDate.class), rs.getObject("end_date", LocalDate.class)});
+            });
+
+            int workingDays = workingDays(month);
+            int[] counts = new int[3]; // processed, skipped, created
+            jdbc.query(EMPLOYEES_SQL, params, rs -> {
+                long id = rs.getLong("id");
+                counts[0]++;
+                BigDecimal base = Amounts.parse(rs.getString("salary"));
+                if (alreadyPaid.contains(id) || base == null) {
+                    counts[1]++;
+                    return;
+                }
+                double unpaid = unpaidDays(absences.getOrDefault(id, Map.of()), leaves.getOrDefault(id, List.of()));
+                Salary s = new Salary();
+                s.setEmployeeId(id);
+                s.setEmployeeName(rs.getString("name"));
+                s.setMonth(month);
+                s.setAmount(computePay(base, workingDays, unpaid));
+                s.setStatus("UNPAID");
+                em.persist(s);
+                counts[2]++;
+            });
+            claimed.setStatus(PayrollChunk.DONE);
+            em.flush();
+            em.clear();
+
+            runRepo.addProgress(chunk.getRunId(), counts[0], counts[1], counts[2]);
+        });
+    }
+
+    static int workingDays(YearMonth month) {
+        int days = 0;
+        for (LocalDate d = month.atDay(1); !d.isAfter(month.atEndOfMonth()); d = d.plusDays(1)) {
+            if (d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    // Approved leave वाले दिन का absence paid है. End date नहीं तो leave सिर्फ start वाले दिन की
+    static double unpaidDays(Map<LocalDate, Double> absences, List<LocalDate[]> approvedLeaves) {
+        double unpaid = 0;
+        for (Map.Entry<LocalDate, Double> e : absences.entrySet()) {
+            LocalDate day = e.getKey();
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            boolean onLeave = approvedLeaves.stream()
+                    .anyMatch(l -> l[0] != null && !day.isBefore(l[0]) && !day.isAfter(l[1] != null ? l[1] : l[0]));
+            if (!onLeave) {
+                unpaid += e.getValue();
+            }
+        }
+        return unpaid;
+    }
+
+    static double computePay(BigDecimal base, int workingDays, double unpaidDays) {
+        if (workingDays == 0) {
+            return base.setScale(2, RoundingMode.HALF_UP).doubleValue();
+        }
+        BigDecimal paidDays = BigDecimal.valueOf(Math.max(0, workingDays - unpaidDays));
+        return base.multiply(paidDays)
+                .divide(BigDecimal.valueOf(workingDays), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.ems.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Employee photos का content-addressed store, local disk पर: file का नाम उसके bytes का SHA-256 है
+ * ({@code <dir>/ab/cd/<hash>}). Same photo दो बार upload हो तो एक ही file रहती है, और file कभी बदलती नहीं –
+ * इसलिए hash ही strong ETag है और responses हमेशा के लिए cache हो सकते हैं.
+ * <p>
+ * Thumbnails पहली request पर बनते हैं ({@code <dir>/thumbs/<size>/ab/<hash>.jpg}) और फिर disk से ही serve होते हैं.
+ * Cluster में dir shared volume पर होनी चाहिए.
+ */
+@Service
+public class PhotoStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PhotoStore.class);
+
+    public static final Set<Integer> THUMBNAIL_SIZES = Set.of(64, 128, 256);
+
+    private static final long MAX_THUMBNAIL_SOURCE_PIXELS = 40_000_000L;
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final long maxSize;
+
+    public PhotoStore(@Value("${app.photos.dir:data/photos}") Path root,
+                      @Value("${app.photos.max-size:5MB}") DataSize maxSize) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+        this.maxSize = maxSize.toBytes();
+    }
+
+    /**
+     * Stream को temp file में लिखते हुए hash निकालता है, फिर atomic move. Image न हो या बहुत बड़ी हो तो 4xx.
+     * @return content hash (64 hex chars)
+     */
+    public String put(InputStream in) throws IOException {
+        Path tmp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest sha256 = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tmp), sha256)) {
+                byte[] buffer = new byte[64 * 1024];
+                long total = 0;
+                for (int n; (n = in.read(buffer)) != -1; ) {
+                    total += n;
+                    if (total > maxSize) {
+                        throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                                "Photo larger than " + maxSize + " bytes");
+                    }
+                    out.write(buffer, 0, n);
+                }
+            }
+            if (contentType(tmp) == null) {
+                throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Photo must be PNG, JPEG, GIF or WebP");
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            Path target = locate(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(tmp, target);
+            }
+            return hash;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public String put(byte[] bytes) throws IOException {
+        return put(new ByteArrayInputStream(bytes));
+    }
+
+    /** Original file; hash गलत format का हो या file न हो तो 404 */
+    public Path original(String hash) {
+        Path file = locate(hash);
+        if (!Files.isRegularFile(file)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Photo not found: " + hash);
+        }
+        return file;
+    }
+
+    /**
+     * size x size में fit होने वाला JPEG thumbnail, ज़रूरत हो तो अभी बनाकर. जिस format को ImageIO पढ़ नहीं सकता
+     * (जैसे WebP) या जो बहुत बड़ी हो, उसके लिए original ही लौटता है.
+     */
+    public Path thumbnail(String hash, int size) throws IOException {
+        if (!THUMBNAIL_SIZES.contains(size)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be one of " + THUMBNAIL_SIZES);
+        }
+        Path source = original(hash);
+        Path thumb = root.resolve("thumbs").resolve(String.valueOf(size)).resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+        if (Files.isRegularFile(thumb)) {
+            return thumb;
+        }
+        BufferedImage image = decode(source);
+        if (image == null) {
+            return source;
+        }
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int w = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int h = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        // JPEG में alpha नहीं होता – transparent हिस्सा white
+        BufferedImage scaled = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, w, h, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        Files.createDirectories(thumb.getParent());
+        Path tmp = Files.createTempFile(thumb.getParent(), "thumb-", ".tmp");
+        try {
+            ImageIO.write(scaled, "jpg", tmp.toFile());
+            moveIntoPlace(tmp, thumb);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return thumb;
+    }
+
+    // 5MB का PNG भी 20000x20000 decode होकर GBs ले सकता है – पहले सिर्फ header से size देखो
+    private static BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_THUMBNAIL_SOURCE_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** पहले bytes (magic number) से type; image न हो तो null */
+    public MediaType contentType(Path file) {
+        byte[] head = new byte[12];
+        int n;
+        try (InputStream in = Files.newInputStream(file)) {
+            n = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (n >= 8 && head[0] == (byte) 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+        if (n >= 3 && head[0] == (byte) 0xFF && head[1] == (byte) 0xD8 && head[2] == (byte) 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (n >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+            return MediaType.IMAGE_GIF;
+        }
+        if (n >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return null;
+    }
+
+    public static boolean isHash(String value) {
+        return value != null && HASH.matcher(value).matches();
+    }
+
+    // Hash format check path traversal ("../") भी रोकता है
+    private Path locate(String hash) {
+        if (!isHash(hash)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Photo not found: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    // दो requests एक साथ same content लिखें तो भी target पूरी file ही रहती है
+    private static void moveIntoPlace(Path tmp, Path target) throws IOException {
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            log.debug("{} already stored", target.getFileName());
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.ems.service;
+
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.dto.AdminProfileDTO;
+import com.example.ems.dto.EmployeeSettingsDTO;
+import com.example.ems.dto.PasswordChangeDTO;
+import com.example.ems.model.Admin;
+import com.example.ems.model.Employee;
+import com.example.ems.model.User;
+import com.example.ems.repository.AdminRepository;
+import com.example.ems.repository.EmployeeRepository;
+import com.example.ems.repository.UserRepository;
+import com.example.ems.security.AuthenticationCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * Logged-in user का अपना profile ("me"). Principal का username employees के लिए email है, admins के लिए username.
+ * <p>
+ * Per-user cache का key (username, table version) है: profile write (यहाँ या admin screens से, किसी भी node पर)
+ * commit होते ही TableVersions बदलता है और अगली request नया key बनाती है. Hit पर एक PK lookup, कोई row load नहीं.
+ * Cached entities shared हैं – इन्हें बदलना नहीं, writes fresh load पर होते हैं.
+ */
+@Service
+public class ProfileService {
+
+    private static final int MIN_PASSWORD_LENGTH = 6;
+
+    private record Key(String username, String tableVersion) {}
+
+    private final EmployeeRepository employeeRepo;
+    private final AdminRepository adminRepo;
+    private final UserRepository userRepo;
+    private final VersionedUpdates versionedUpdates;
+    private final TableVersions tableVersions;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+    private final Cache<Key, Employee> employees;
+    private final Cache<Key, Admin> admins;
+
+    public ProfileService(EmployeeRepository employeeRepo, AdminRepository adminRepo, UserRepository userRepo,
+                          VersionedUpdates versionedUpdates, TableVersions tableVersions,
+                          PasswordEncoder passwordEncoder, AuthenticationCache authenticationCache,
+                          @Value("${app.profile-cache.ttl:10m}") Duration ttl,
+                          @Value("${app.profile-cache.max-size:10000}") long maxSize) {
+        this.employeeRepo = employeeRepo;
+        this.adminRepo = adminRepo;
+        this.userRepo = userRepo;
+        this.versionedUpdates = versionedUpdates;
+        this.tableVersions = tableVersions;
+        this.passwordEncoder = passwordEncoder;
+        this.authenticationCache = authenticationCache;
+        this.employees = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.admins = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    }
+
+    public Employee employee(String username) {
+        Key key = new Key(username, tableVersions.stamp("employees").version());
+        return employees.get(key, k -> employeeRepo.findByEmail(username)
+                .orElseThrow(() -> new ResourceNotFoundException("No employee profile for " + username)));
+    }
+
+    public Admin admin(String username) {
+        Key key = new Key(username, tableVersions.stamp("admins").version());
+        return admins.get(key, k -> adminRepo.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("No admin profile for " + username)));
+    }
+
+    public static AdminProfileDTO toProfile(Admin admin) {
+        String name = admin.getName() != null && !admin.getName().isBlank() ? admin.getName() : admin.getUsername();
+        return new AdminProfileDTO(new AdminProfileDTO.Profile(name, admin.getEmail()));
+    }
+
+    // सिर्फ भेजी गई (non-null) fields बदलती हैं
+    @Transactional
+    public Employee updateSettings(String username, String ifMatch, EmployeeSettingsDTO settings) {
+        Employee current = employee(username);
+        String encoded = encodeIfPresent(settings.getPassword());
+        Employee saved = versionedUpdates.apply(employeeRepo, current.getId(), ifMatch, null, e -> {
+            if (settings.getName() != null && !settings.getName().isBlank()) {
+                e.setName(settings.getName().trim());
+            }
+            if (settings.getPhone() != null) {
+                e.setPhone(settings.getPhone());
+            }
+            if (settings.getAddress() != null) {
+                e.setAddress(settings.getAddress());
+            }
+            if (settings.getGender() != null) {
+                e.setGender(settings.getGender());
+            }
+            if (encoded != null) {
+                e.setPassword(encoded);
+            }
+        });
+        if (encoded != null) {
+            setLoginPassword(username, encoded);
+        }
+        return saved;
+    }
+
+    @Transactional
+    public Admin updateAdminProfile(String username, String ifMatch, AdminProfileDTO.Profile profile) {
+        Admin current = admin(username);
+        return versionedUpdates.apply(adminRepo, current.getId(), ifMatch, null, a -> {
+            if (profile.getName() != null) {
+                a.setName(profile.getName().isBlank() ? null : profile.getName().trim());
+            }
+            if (profile.getEmail() != null && !profile.getEmail().isBlank()) {
+                a.setEmail(profile.getEmail().trim());
+            }
+        });
+    }
+
+    // Login users table से होता है; admins.password भी साथ में ताकि दोनों अलग न हों
+    @Transactional
+    public void changeAdminPassword(String username, PasswordChangeDTO change) {
+        User user = userRepo.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("No login account for " + username));
+        if (change.getCurrent() == null || !passwordEncoder.matches(change.getCurrent(), user.getPassword())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Current password is incorrect");
+        }
+        String encoded = encodeIfPresent(change.getNewPassword());
+        if (encoded == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "New password is required");
+        }
+        user.setPassword(encoded);
+        adminRepo.findByUsername(username).ifPresent(a -> a.setPassword(encoded));
+        evictAfterCommit(username);
+    }
+
+    private void setLoginPassword(String username, String encoded) {
+        User user = userRepo.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("No login account for " + username));
+        user.setPassword(encoded);
+        evictAfterCommit(username);
+    }
+
+    // Commit से पहले evict किया तो बीच में आई login request पुराना password फिर से cache कर लेती है
+    private void evictAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    authenticationCache.evict(username);
+                }
+            });
+        } else {
+            authenticationCache.evict(username);
+        }
+    }
+
+    private String encodeIfPresent(String password) {
+        if (password == null || password.isEmpty()) {
+            return null;
+        }
+        if (password.length() < MIN_PASSWORD_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Password must be at least " + MIN_PASSWORD_LENGTH + " characters");
+        }
+        return passwordEncoder.encode(password);
+    }
+}
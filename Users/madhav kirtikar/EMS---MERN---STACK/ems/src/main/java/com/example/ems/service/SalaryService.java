@@ -1,5 +1,79 @@
 package com.example.ems.service;
 
+import com.example.ems.event.SalaryPaid;
+import com.example.ems.model.Salary;
+import com.example.ems.repository.SalaryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Salary updates; status PAID होने पर SalaryPaid उसी transaction में outbox में
+@Service
 public class SalaryService {
 
+    public static final String PAID = "PAID";
+
+    private final SalaryRepository repo;
+    private final VersionedUpdates versionedUpdates;
+    private final EmployeeReferenceResolver references;
+    private final DomainEventOutbox outbox;
+
+    public SalaryService(SalaryRepository repo, VersionedUpdates versionedUpdates,
+                         EmployeeReferenceResolver references, DomainEventOutbox outbox) {
+        this.repo = repo;
+        this.versionedUpdates = versionedUpdates;
+        this.references = references;
+        this.outbox = outbox;
+    }
+
+    @Transactional
+    public Salary add(Salary salary) {
+        references.resolve(salary);
+        Salary saved = repo.save(salary);
+        if (PAID.equalsIgnoreCase(saved.getStatus())) {
+            outbox.append(paid(saved));
+        }
+        return saved;
+    }
+
+    @Transactional
+    public Salary replace(Long id, String ifMatch, Salary salary) {
+        AtomicReference<String> previous = new AtomicReference<>();
+        Salary saved = versionedUpdates.apply(repo, id, ifMatch, salary.getVersion(), existing -> {
+            previous.set(existing.getStatus());
+            String previousName = existing.getEmployeeName();
+            Long previousEmployeeId = existing.getEmployeeId();
+            BeanUtils.copyProperties(salary, existing, "id", "version", "employee");
+            references.resolve(existing, previousName, previousEmployeeId);
+        });
+        publishIfPaid(previous.get(), saved);
+        return saved;
+    }
+
+    @Transactional
+    public Salary patch(Long id, String ifMatch, JsonNode changes) {
+        // Managed entity ही merge होती है, इसलिए पुरानी values पहले निकाल लो
+        Optional<Salary> current = repo.findById(id);
+        String previous = current.map(Salary::getStatus).orElse(null);
+        String previousName = current.map(Salary::getEmployeeName).orElse(null);
+        Long previousEmployeeId = current.map(Salary::getEmployeeId).orElse(null);
+        Salary saved = versionedUpdates.patch(repo, id, ifMatch, changes,
+                s -> references.resolve(s, previousName, previousEmployeeId));
+        publishIfPaid(previous, saved);
+        return saved;
+    }
+
+    private void publishIfPaid(String previousStatus, Salary saved) {
+        if (PAID.equalsIgnoreCase(saved.getStatus()) && !PAID.equalsIgnoreCase(previousStatus)) {
+            outbox.append(paid(saved));
+        }
+    }
+
+    static SalaryPaid paid(Salary s) {
+        return new SalaryPaid(s.getId(), s.getEmployeeId(), s.getEmployeeName(), s.getMonth(), s.getAmount());
+    }
 }
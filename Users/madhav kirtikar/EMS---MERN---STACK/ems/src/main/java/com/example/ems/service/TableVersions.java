@@ -0,0 +1,111 @@
+package com.example.ems.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.HashMap;
+
+/**
+ * Per-table change counter, DB में (table_versions) ताकि सारे instances एक ही version देखें.
+ * TableChangeTracker हर commit के बाद छुई गई tables का version बढ़ाता है; JDBC से लिखने वाले (migrations)
+ * खुद {@link #bump} बुलाते हैं. List endpoints इससे ETag/Last-Modified बनाते हैं – unchanged list पर एक PK lookup
+ * और 304, rows query ही नहीं होतीं.
+ */
+@Service
+public class TableVersions {
+
+    private static final Logger log = LoggerFactory.getLogger(TableVersions.class);
+
+    // सिर्फ वो tables जिनकी list/profile ETag या cache key से serve होती है; बाकी writes पर extra UPDATE नहीं
+    public static final Set<String> TRACKED = Set.of("employees", "departments", "events", "leaves", "salaries", "admins");
+
+    private static final String BUMP_SQL = "insert into table_versions (table_name, version, updated_at)"
+            + " values (:table, 1, :now) on duplicate key update version = version + 1, updated_at = :now";
+    private static final String STAMP_SQL =
+            "select table_name, version, updated_at from table_versions where table_name in (:tables)";
+
+    /**
+     * version = "tv-&lt;v1&gt;.&lt;v2&gt;". ETag weak है: यह representation का version है, bytes का नहीं – और Tomcat
+     * strong ETag वाले response को gzip नहीं करता. If-None-Match की comparison वैसे भी weak होती है.
+     */
+    public record Stamp(String version, long lastModified) {
+        public String etag() {
+            return "W/\"" + version + "\"";
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbc;
+    // Caller का transaction commit हो चुका होता है – counter अपने transaction में
+    private final TransactionTemplate tx;
+
+    public TableVersions(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager txManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Downtime में हाथ से SQL / restore हुआ हो सकता है – startup पर पुराने ETags invalid
+    @EventListener(ApplicationReadyEvent.class)
+    void bumpAllOnStartup() {
+        bump(TRACKED);
+    }
+
+    public void bump(String... tables) {
+        bump(Arrays.asList(tables));
+    }
+
+    public void bump(Collection<String> tables) {
+        List<String> tracked = tables.stream().filter(TRACKED::contains).distinct().sorted().toList();
+        if (tracked.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            tx.executeWithoutResult(status -> jdbc.batchUpdate(BUMP_SQL, tracked.stream()
+                    .map(t -> new MapSqlParameterSource("table", t).addValue("now", now))
+                    .toArray(SqlParameterSource[]::new)));
+        } catch (DataAccessException e) {
+            // Write commit हो चुका है; counter न बढ़ा तो clients को 304 मिल सकता है, इसलिए error log
+            log.error("Could not bump table versions {}: {}", tracked, e.getMessage());
+        }
+    }
+
+    /**
+     * Tables का combined stamp: ETag = W/"tv-&lt;v1&gt;.&lt;v2&gt;", Last-Modified = सबसे नया updated_at.
+     * Stamp rows query से पहले लो: बीच में write आए तो response नया और ETag पुराना होगा, अगली request 200 पाएगी
+     * (उल्टा होता तो stale 304 मिलता).
+     */
+    public Stamp stamp(String... tables) {
+        Map<String, long[]> found = new HashMap<>();
+        jdbc.query(STAMP_SQL, Map.of("tables", List.of(tables)), rs -> {
+            found.put(rs.getString("table_name"),
+                    new long[] {rs.getLong("version"), rs.getTimestamp("updated_at").getTime()});
+        });
+        StringBuilder version = new StringBuilder("tv");
+        // -1 = unknown, तब If-Modified-Since पर 304 नहीं मिलता
+        long lastModified = -1;
+        for (String table : tables) {
+            long[] v = found.getOrDefault(table, new long[] {0, -1});
+            version.append(version.length() == 2 ? '-' : '.').append(v[0]);
+            lastModified = Math.max(lastModified, v[1]);
+        }
+        return new Stamp(version.toString(), lastModified);
+    }
+}
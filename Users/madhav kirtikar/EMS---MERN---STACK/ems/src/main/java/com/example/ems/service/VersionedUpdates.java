@@ -0,0 +1,92 @@
+package com.example.ems.service;
+
+import com.example.ems.YourApp.Exception.ResourceNotFoundException;
+import com.example.ems.model.Versioned;
+import com.example.ems.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Read-modify-write एक transaction में, optimistic locking के साथ.
+ * <ul>
+ *   <li>If-Match (ETag) current version से न मिले तो 412</li>
+ *   <li>If-Match नहीं पर body में पुराना {@code version} हो तो 409 – पुराने clients भी दूसरों का write नहीं मिटाते</li>
+ *   <li>Load और flush के बीच कोई और लिख दे तो {@code @Version} check fail → GlobalExceptionHandler 409</li>
+ * </ul>
+ * Entity managed रहती है, इसलिए कुछ बदला ही न हो तो UPDATE जाता ही नहीं, और {@code @DynamicUpdate}
+ * से सिर्फ बदले हुए columns लिखे जाते हैं.
+ */
+@Service
+public class VersionedUpdates {
+
+    private static final String[] NEVER_COPIED = {"id", "version"};
+
+    private final ObjectMapper objectMapper;
+
+    public VersionedUpdates(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** PUT: body की सारी properties current entity पर copy; id, version और ignoredProperties छोड़कर */
+    @Transactional
+    public <T extends Versioned> T replace(JpaRepository<T, Long> repo, Long id, String ifMatch, T body,
+                                          String... ignoredProperties) {
+        String[] ignored = Stream.concat(Arrays.stream(NEVER_COPIED), Arrays.stream(ignoredProperties))
+                .toArray(String[]::new);
+        return apply(repo, id, ifMatch, body.getVersion(), entity -> BeanUtils.copyProperties(body, entity, ignored));
+    }
+
+    /** PATCH: सिर्फ body में आई fields बदलती हैं (JSON merge) */
+    @Transactional
+    public <T extends Versioned> T patch(JpaRepository<T, Long> repo, Long id, String ifMatch, JsonNode body) {
+        return patch(repo, id, ifMatch, body, entity -> {});
+    }
+
+    /** afterMerge: merge के बाद derived fields (जैसे departmentId) ठीक करने के लिए, उसी UPDATE में */
+    @Transactional
+    public <T extends Versioned> T patch(JpaRepository<T, Long> repo, Long id, String ifMatch, JsonNode body,
+                                        Consumer<T> afterMerge) {
+        if (!(body instanceof ObjectNode fields)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PATCH body must be a JSON object");
+        }
+        JsonNode version = fields.remove("version");
+        fields.remove("id");
+        Long expected = version == null || version.isNull() ? null : version.asLong();
+        return apply(repo, id, ifMatch, expected, entity -> {
+            try {
+                objectMapper.readerForUpdating(entity).readValue(fields);
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid PATCH body: " + e.getMessage());
+            }
+            afterMerge.accept(entity);
+        });
+    }
+
+    @Transactional
+    public <T extends Versioned> T apply(JpaRepository<T, Long> repo, Long id, String ifMatch, Long expectedVersion,
+                                        Consumer<T> changes) {
+        T entity = repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Resource not found with ID: " + id));
+        ETags.checkIfMatch(ifMatch, entity.getVersion());
+        if ((ifMatch == null || ifMatch.isBlank()) && expectedVersion != null
+                && !Objects.equals(expectedVersion, entity.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Resource was modified (version " + entity.getVersion() + "), reload and retry");
+        }
+        changes.accept(entity);
+        // Flush यहीं ताकि version conflict इसी call में निकले और response में नया version जाए
+        return repo.saveAndFlush(entity);
+    }
+}
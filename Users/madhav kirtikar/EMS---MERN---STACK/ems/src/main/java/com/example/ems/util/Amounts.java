@@ -0,0 +1,27 @@
+package com.example.ems.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Employee.salary free text है ("50000", "50,000", "₹ 50000"). Payroll और analytics दोनों यहीं से parse करते हैं,
+ * ताकि जो salary payroll में गिनी जाए वही distributions में भी दिखे. Parse न हो तो null.
+ */
+public final class Amounts {
+
+    private Amounts() {}
+
+    public static BigDecimal parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = value.replaceAll("[^0-9.]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ems.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Entity version <-> strong ETag ("3"). Resource URL id से scoped है, इसलिए version काफ़ी है.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * If-Match header न हो या "*" हो तो कुछ नहीं; वरना कोई एक tag current version से match होना चाहिए,
+     * नहीं तो 412 Precondition Failed.
+     */
+    public static void checkIfMatch(String ifMatch, Long currentVersion) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return;
+        }
+        String current = of(currentVersion);
+        for (String tag : ifMatch.split(",")) {
+            String t = tag.trim();
+            // Weak tags (W/"3") strong comparison में कभी match नहीं होते (RFC 9110 13.1.1)
+            if (t.equals(current)) {
+                return;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                "Resource was modified; current ETag is " + current);
+    }
+}
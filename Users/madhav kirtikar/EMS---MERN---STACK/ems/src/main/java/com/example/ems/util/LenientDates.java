@@ -0,0 +1,100 @@
+package com.example.ems.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * पुराने free-form String date columns और frontend inputs ("June", "July 2025", "15/08/2025") को
+ * typed values में बदलता है. Parse न हो तो null.
+ */
+public final class LenientDates {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH));
+
+    private static final List<DateTimeFormatter> MONTH_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("yyyy-MM"),
+            DateTimeFormatter.ofPattern("MM-yyyy"),
+            DateTimeFormatter.ofPattern("MM/yyyy"),
+            caseInsensitive("MMMM yyyy"),
+            caseInsensitive("MMM yyyy"),
+            caseInsensitive("MMMM-yyyy"),
+            caseInsensitive("MMM-yyyy"));
+
+    private LenientDates() {}
+
+    public static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String v = value.trim();
+        // "2025-07-01T10:00:00" / "2025-07-01 10:00"
+        if (v.length() > 10 && Character.isDigit(v.charAt(0)) && v.charAt(4) == '-') {
+            v = v.substring(0, 10);
+        }
+        for (DateTimeFormatter f : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(v, f);
+            } catch (DateTimeParseException ignored) {
+                // अगला format
+            }
+        }
+        return null;
+    }
+
+    public static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim().replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            LocalDate date = parseDate(value);
+            return date == null ? null : date.atStartOfDay();
+        }
+    }
+
+    /**
+     * सिर्फ month name ("June") हो तो उसकी latest occurrence जो notAfter के बाद न हो – salary/payroll बीते या
+     * चालू month की होती है, तो 2 January को आया "December" पिछले साल का December है, अगले का नहीं.
+     */
+    public static YearMonth parseYearMonth(String value, YearMonth notAfter) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String v = value.trim();
+        for (DateTimeFormatter f : MONTH_FORMATS) {
+            try {
+                return YearMonth.parse(v, f);
+            } catch (DateTimeParseException ignored) {
+                // अगला format
+            }
+        }
+        for (Month m : Month.values()) {
+            if (m.getDisplayName(TextStyle.FULL, Locale.ENGLISH).equalsIgnoreCase(v)
+                    || m.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).equalsIgnoreCase(v)) {
+                YearMonth month = YearMonth.of(notAfter.getYear(), m);
+                return month.isAfter(notAfter) ? month.minusYears(1) : month;
+            }
+        }
+        LocalDate date = parseDate(v);
+        return date == null ? null : YearMonth.from(date);
+    }
+
+    private static DateTimeFormatter caseInsensitive(String pattern) {
+        return new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern).toFormatter(Locale.ENGLISH);
+    }
+}
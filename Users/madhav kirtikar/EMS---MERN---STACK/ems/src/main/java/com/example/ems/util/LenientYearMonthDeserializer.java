@@ -0,0 +1,25 @@
+package com.example.ems.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.time.YearMonth;
+
+// Salary form अभी "June" भेजता है – "2025-06" और "June 2025" भी चलते हैं. सिर्फ "June" = सबसे हाल का June (आज तक)
+public class LenientYearMonthDeserializer extends JsonDeserializer<YearMonth> {
+
+    @Override
+    public YearMonth deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String text = p.getValueAsString();
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        YearMonth month = LenientDates.parseYearMonth(text, YearMonth.now());
+        if (month == null) {
+            return (YearMonth) ctxt.handleWeirdStringValue(YearMonth.class, text, "Expected yyyy-MM or a month name");
+        }
+        return month;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ems.util;
+
+/**
+ * Employee का "photo" URL जो frontend सीधे {@code <img src>} में डालता है. Upload हुई photo (PhotoStore hash) पहले,
+ * वरना पुराना "Photo URL" (employees.photo). Frontend दूसरे origin से चलता है, इसलिए store URL API base से absolute
+ * बनता है (app.photos.public-base-url, WebConfig set करता है).
+ */
+public final class PhotoUrls {
+
+    public static final String STORE_PATH = "/api/photos/";
+
+    private static volatile String baseUrl = "";
+
+    private PhotoUrls() {}
+
+    public static void setBaseUrl(String apiBaseUrl) {
+        String base = apiBaseUrl == null ? "" : apiBaseUrl.trim();
+        baseUrl = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+    }
+
+    public static String of(String photoHash, String legacyUrl) {
+        return photoHash != null ? baseUrl + STORE_PATH + photoHash : legacyUrl;
+    }
+
+    // Client वही URL वापस भेजे जो हमने दिया था (PUT में पूरा object) – वो upload का reference है, नया URL नहीं
+    public static boolean isStoreUrl(String url) {
+        return url != null && url.contains(STORE_PATH);
+    }
+}
@@ -0,0 +1,95 @@
+-- Baseline: Flyway से पहले वाले app का schema, जैसा ddl-auto=update ने production DBs में बनाया था.
+-- पुराने DB पर spring.flyway.baseline-on-migrate इसे version 1 मान कर skip करता है और V2+ चलते हैं;
+-- नए (खाली) DB पर यही चलता है, ताकि दोनों रास्तों से V2 को बिल्कुल एक जैसा schema मिले.
+-- इस file को कभी मत बदलो – हर बदलाव नई V<n>__*.sql में.
+
+create table departments (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    description varchar(255),
+    primary key (id),
+    constraint uk_departments_name unique (name)
+) engine=InnoDB;
+
+create table employees (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    department varchar(255),
+    position varchar(255),
+    email varchar(255),
+    phone varchar(255),
+    address varchar(255),
+    salary varchar(255),
+    password varchar(255),
+    photo varchar(255),
+    gender varchar(255),
+    age integer,
+    performance float(53),
+    primary key (id),
+    constraint uk_employees_email unique (email)
+) engine=InnoDB;
+
+create table admins (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    primary key (id),
+    constraint uk_admins_username unique (username),
+    constraint uk_admins_email unique (email)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    primary key (id),
+    constraint uk_users_username unique (username)
+) engine=InnoDB;
+
+create table attendance (
+    id bigint not null auto_increment,
+    employee_id bigint,
+    `date` varchar(255),
+    status varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table events (
+    id bigint not null auto_increment,
+    title varchar(255),
+    description varchar(255),
+    `date` varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table leaves (
+    id bigint not null auto_increment,
+    name varchar(255),
+    department varchar(255),
+    from_date varchar(255),
+    to_date varchar(255),
+    reason varchar(255),
+    status varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table notification (
+    id bigint not null auto_increment,
+    title varchar(255),
+    message varchar(255),
+    `date` varchar(255),
+    target_role varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table salaries (
+    id bigint not null auto_increment,
+    employee_name varchar(255),
+    `month` varchar(255),
+    amount float(53),
+    status varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
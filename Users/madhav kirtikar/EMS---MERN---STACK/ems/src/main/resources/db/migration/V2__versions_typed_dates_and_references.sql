@@ -0,0 +1,58 @@
+-- Baseline tables पर नए columns: optimistic-lock versions, typed date columns, employee/department foreign keys,
+-- photo hash और admin display name. पुराने varchar date columns और employees.photo रहते हैं –
+-- LegacyTemporalMigrator / InlinePhotoExtractor उन्हें background में नए columns में copy करते हैं.
+-- सारे नए columns nullable हैं (version छोड़कर) क्योंकि मौजूदा rows उन्हें बाद में भरती हैं.
+
+-- Optimistic locking + ETags; पुरानी rows 0 से शुरू
+alter table departments add column version bigint default 0 not null;
+alter table employees add column version bigint default 0 not null;
+alter table admins add column version bigint default 0 not null;
+alter table events add column version bigint default 0 not null;
+alter table leaves add column version bigint default 0 not null;
+alter table salaries add column version bigint default 0 not null;
+
+-- Employees: department reference (EmployeeReferenceResolver), PhotoStore hash
+alter table employees
+    add column department_id bigint,
+    add column photo_hash varchar(64),
+    add index idx_employees_department_id (department, id),
+    add index idx_employees_department_ref (department_id, id),
+    add index idx_employees_position_id (position, id),
+    add index idx_employees_gender_id (gender, id),
+    add index idx_employees_age (age),
+    add index idx_employees_performance (performance),
+    add constraint fk_employees_department foreign key (department_id) references departments (id) on delete set null;
+
+-- Settings page का display name
+alter table admins add column name varchar(255);
+
+-- attendance_date null वाली पुरानी rows unique key में टकराती नहीं; copy के समय duplicate day migrator skip करता है
+alter table attendance
+    add column attendance_date date,
+    add constraint uk_attendance_employee_day unique (employee_id, attendance_date),
+    add index idx_attendance_date (attendance_date);
+
+alter table events
+    add column event_date date,
+    add index idx_events_event_date (event_date);
+
+alter table leaves
+    add column employee_id bigint,
+    add column start_date date,
+    add column end_date date,
+    add index idx_leaves_status_start (status, start_date),
+    add index idx_leaves_start_end (start_date, end_date),
+    add index idx_leaves_employee_start (employee_id, start_date),
+    add constraint fk_leaves_employee foreign key (employee_id) references employees (id) on delete set null;
+
+alter table notification
+    add column created_at datetime(6),
+    add index idx_notification_role_created (target_role, created_at);
+
+-- pay_month entity में @NotNull है, पर पुरानी rows इसे migrator से पाती हैं – column nullable
+alter table salaries
+    add column employee_id bigint,
+    add column pay_month date,
+    add index idx_salaries_month_status (pay_month, status),
+    add index idx_salaries_employee_month (employee_id, pay_month),
+    add constraint fk_salaries_employee foreign key (employee_id) references employees (id) on delete set null;
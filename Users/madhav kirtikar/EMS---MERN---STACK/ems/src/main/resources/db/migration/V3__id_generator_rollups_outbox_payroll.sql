@@ -0,0 +1,100 @@
+-- इस series की नई tables: id generator, attendance/leave rollups, outbox, payroll runs, table versions.
+
+-- Employee / Salary ids: pooled table generator (allocationSize 50). Row मौजूदा max(id) से आगे शुरू होती है,
+-- वरना पुरानी IDENTITY ids दोबारा मिलतीं (IdGeneratorSeeder यही rule startup पर भी check करता है)
+create table id_generator (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generator (sequence_name, next_val) select 'employees', coalesce(max(id), 0) + 51 from employees;
+insert into id_generator (sequence_name, next_val) select 'salaries', coalesce(max(id), 0) + 51 from salaries;
+
+create table attendance_monthly_summary (
+    id bigint not null auto_increment,
+    employee_id bigint not null,
+    `month` varchar(7) not null,
+    department varchar(255),
+    present_days integer not null,
+    absent_days integer not null,
+    half_days integer not null,
+    leave_days integer not null,
+    primary key (id),
+    constraint uk_att_summary_employee_month unique (employee_id, `month`),
+    index idx_att_summary_month_department (`month`, department)
+) engine=InnoDB;
+
+create table department_attendance_summary (
+    id bigint not null auto_increment,
+    department varchar(255) not null,
+    `month` varchar(7) not null,
+    employees integer not null,
+    present_days integer not null,
+    absent_days integer not null,
+    half_days integer not null,
+    leave_days integer not null,
+    primary key (id),
+    constraint uk_dept_att_summary_department_month unique (department, `month`)
+) engine=InnoDB;
+
+create table leave_yearly_summary (
+    id bigint not null auto_increment,
+    employee_name varchar(255) not null,
+    `year` integer not null,
+    department varchar(255),
+    approved_days integer not null,
+    pending_days integer not null,
+    primary key (id),
+    constraint uk_leave_summary_employee_year unique (employee_name, `year`),
+    index idx_leave_summary_year_department (`year`, department)
+) engine=InnoDB;
+
+create table outbox_event (
+    id bigint not null auto_increment,
+    event_type varchar(100) not null,
+    payload text not null,
+    status varchar(20) not null,
+    attempts integer not null,
+    created_at datetime(6) not null,
+    available_at datetime(6) not null,
+    processed_at datetime(6),
+    last_error varchar(1000),
+    primary key (id),
+    index idx_outbox_status_available (status, available_at, id)
+) engine=InnoDB;
+
+create table payroll_run (
+    id bigint not null auto_increment,
+    pay_month date not null,
+    status varchar(20) not null,
+    total_employees integer not null,
+    processed_employees integer not null,
+    skipped_employees integer not null,
+    created_salaries integer not null,
+    total_chunks integer not null,
+    completed_chunks integer not null,
+    started_at datetime(6),
+    finished_at datetime(6),
+    last_error varchar(1000),
+    primary key (id),
+    index idx_payroll_run_month_status (pay_month, status)
+) engine=InnoDB;
+
+create table payroll_chunk (
+    id bigint not null auto_increment,
+    run_id bigint not null,
+    chunk_no integer not null,
+    first_employee_id bigint not null,
+    last_employee_id bigint not null,
+    status varchar(20) not null,
+    primary key (id),
+    index idx_payroll_chunk_run_status (run_id, status)
+) engine=InnoDB;
+
+create table table_versions (
+    table_name varchar(64) not null,
+    version bigint not null,
+    updated_at datetime(6) not null,
+    primary key (table_name)
+) engine=InnoDB;
@@ -0,0 +1,30 @@
+-- Repository finders के लिए indexes जो ddl-auto=update ने कभी नहीं बनाए. हर index के ऊपर वो query जिसके लिए है.
+-- InnoDB secondary index में primary key (id) अपने-आप होता है, इसलिए (x) वाला index "select id where x = ?" को cover करता है.
+
+-- SalaryRepository.findByEmployeeName
+create index idx_salaries_employee_name on salaries (employee_name);
+
+-- SalaryRepository.totalsByStatus: pay_month = ? group by status, sum(amount) – index-only, rows नहीं पढ़ी जातीं.
+-- पुराना (pay_month, status) इसका prefix था
+create index idx_salaries_month_status_amount on salaries (pay_month, status, amount);
+drop index idx_salaries_month_status on salaries;
+
+-- LeaveRepository.findByEmployeeName (AggregateService.refreshLeaves, हर leave event पर)
+create index idx_leaves_name on leaves (name);
+-- LeaveRepository.countByStatus: idx_leaves_status_start (status, ...) का prefix काफी है, नया index नहीं
+
+-- EmployeeRepository.findIdsByName / findIdsByNames (name से employee_id resolve)
+create index idx_employees_name on employees (name);
+
+-- NotificationRepository: target_role in (...) order by id / and id > ? order by id
+create index idx_notification_role_id on notification (target_role, id);
+
+-- DepartmentAttendanceSummaryRepository.findByMonthOrderByDepartment (unique key department से शुरू होती है)
+create index idx_dept_att_summary_month_department on department_attendance_summary (`month`, department);
+
+-- LeaveSummaryRepository.findByYearOrderByEmployeeName – sort भी index से
+create index idx_leave_summary_year_employee on leave_yearly_summary (`year`, employee_name);
+
+-- PayrollChunkRepository.findByRunIdAndStatusOrderByChunkNo – resume पर sort index से
+create index idx_payroll_chunk_run_status_chunk on payroll_chunk (run_id, status, chunk_no);
+drop index idx_payroll_chunk_run_status on payroll_chunk;
@@ -0,0 +1,3 @@
+-- salaries.month: जिन DBs पर @NotBlank वाले build ने column NOT NULL बनाया था, वहाँ नई rows (सिर्फ pay_month) fail होतीं.
+-- पहले ये हर startup पर LegacyTemporalMigrator करता था; V1 वाले DB पर ये no-op है
+alter table salaries modify `month` varchar(255) null;
@@ -0,0 +1,10 @@
+-- एक month का एक ही RUNNING payroll run: active_month run चलते समय pay_month है, खत्म होने पर null.
+-- Unique key से दो nodes/requests पर एक साथ start हुए runs में दूसरा insert पर ही fail होता है
+alter table payroll_run
+    add column active_month date,
+    add constraint uk_payroll_run_active_month unique (active_month);
+
+-- पहले से RUNNING runs (resume होंगे): हर month का सबसे नया
+update payroll_run r
+join (select max(id) as id from payroll_run where status = 'RUNNING' group by pay_month) latest on latest.id = r.id
+set r.active_month = r.pay_month;
@@ -0,0 +1,14 @@
+-- Leave rollup employee_id पर: name duplicate/rename होने पर दो employees की leaves एक row में नहीं मिलतीं.
+-- employee_name सिर्फ display के लिए रहता है
+alter table leave_yearly_summary add column employee_id bigint after id;
+
+-- मौजूदा rows जिनका name एक ही employee का है; बाकी हटती हैं – उस employee के अगले leave event पर फिर बनती हैं
+update leave_yearly_summary s
+join (select min(id) as id, name from employees group by name having count(*) = 1) e on e.name = s.employee_name
+set s.employee_id = e.id;
+delete from leave_yearly_summary where employee_id is null;
+
+alter table leave_yearly_summary
+    modify employee_id bigint not null,
+    drop index uk_leave_summary_employee_year,
+    add constraint uk_leave_summary_employee_year unique (employee_id, `year`);
@@ -0,0 +1,17 @@
+-- एक employee की एक month में एक ही salary row. Payroll run का "पहले से है तो skip" check और manual/bulk
+-- add एक साथ चलें तब भी duplicate insert पर ही fail होता है. Null employee_id / pay_month (पुरानी rows) पर लागू नहीं.
+
+-- पहले से मौजूद duplicates: सबसे पुरानी row employee से जुड़ी रहती है, बाकी सिर्फ employee_name से दिखती हैं
+-- (data नहीं हटता – salary records हैं, HR खुद देखे)
+update salaries s
+join (select employee_id, pay_month, min(id) as keep_id from salaries
+      where employee_id is not null and pay_month is not null
+      group by employee_id, pay_month having count(*) > 1) d
+  on d.employee_id = s.employee_id and d.pay_month = s.pay_month
+set s.employee_id = null
+where s.id <> d.keep_id;
+
+-- (employee_id, pay_month) वाला पुराना index unique key से cover होता है
+alter table salaries
+    add constraint uk_salaries_employee_month unique (employee_id, pay_month),
+    drop index idx_salaries_employee_month;
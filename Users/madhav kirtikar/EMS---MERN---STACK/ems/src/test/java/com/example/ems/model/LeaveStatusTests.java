@@ -0,0 +1,28 @@
+package com.example.ems.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LeaveStatusTests {
+
+	@Test
+	void finalAndBackwardTransitionsAreRejected() {
+		assertThat(LeaveStatus.PENDING.canMoveTo(LeaveStatus.PENDING)).isFalse();
+		assertThat(LeaveStatus.APPROVED.canMoveTo(LeaveStatus.PENDING)).isFalse();
+		assertThat(LeaveStatus.APPROVED.canMoveTo(LeaveStatus.REJECTED)).isFalse();
+		for (LeaveStatus next : LeaveStatus.values()) {
+			assertThat(LeaveStatus.REJECTED.canMoveTo(next)).isFalse();
+			assertThat(LeaveStatus.CANCELLED.canMoveTo(next)).isFalse();
+		}
+		assertThat(LeaveStatus.PENDING.canMoveTo(LeaveStatus.APPROVED)).isTrue();
+		assertThat(LeaveStatus.APPROVED.canMoveTo(LeaveStatus.CANCELLED)).isTrue();
+	}
+
+	@Test
+	void parsesLegacyStatusCase() {
+		assertThat(LeaveStatus.parse("Approved")).isEqualTo(LeaveStatus.APPROVED);
+		assertThat(LeaveStatus.parse(" pending ")).isEqualTo(LeaveStatus.PENDING);
+		assertThat(LeaveStatus.parse("On hold")).isNull();
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.ems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.ems.dto.HistogramDTO;
+import com.example.ems.model.Employee;
+import com.example.ems.service.EmployeeAnalytics.GroupBy;
+import com.example.ems.service.EmployeeAnalytics.Metric;
+
+class EmployeeAnalyticsTests {
+
+	private EmployeeAnalytics analytics;
+
+	@BeforeEach
+	void setUp() {
+		analytics = new EmployeeAnalytics(null, null);
+		analytics.upsertAll(List.of(
+				employee(1L, "Engineering", "M", "40000"),
+				employee(2L, "Engineering", "F", "50,000"),
+				employee(3L, "HR", "F", "₹ 60000"),
+				employee(4L, "HR", "M", "70000"),
+				employee(5L, "HR", null, "n/a")));
+	}
+
+	@Test
+	void percentilesInterpolateBetweenRanks() {
+		assertThat(analytics.percentiles(Metric.SALARY, new double[] {0, 25, 50, 100}, null, null))
+				.containsExactly(
+						entry("p0", 40000.0),
+						entry("p25", 47500.0),
+						entry("p50", 55000.0),
+						entry("p100", 70000.0));
+		assertThat(EmployeeAnalytics.percentile(new double[] {10}, 90)).isEqualTo(10.0);
+	}
+
+	@Test
+	void percentilesApplyFiltersAndUnknownFilterIsEmpty() {
+		assertThat(analytics.percentiles(Metric.SALARY, new double[] {50}, "HR", null)).containsEntry("p50", 65000.0);
+		assertThat(analytics.percentiles(Metric.SALARY, new double[] {50}, "Finance", null)).isEmpty();
+	}
+
+	@Test
+	void histogramSharesBucketsAcrossGroupsAndMaxFallsInLastBucket() {
+		List<HistogramDTO> all = analytics.histogram(Metric.SALARY, GroupBy.NONE, 3, null, null);
+		assertThat(all).hasSize(1);
+		assertThat(all.get(0).getMin()).isEqualTo(40000.0);
+		assertThat(all.get(0).getBucketWidth()).isEqualTo(10000.0);
+		assertThat(all.get(0).getCounts()).containsExactly(1, 1, 2);
+
+		List<HistogramDTO> byDepartment = analytics.histogram(Metric.SALARY, GroupBy.DEPARTMENT, 3, null, null);
+		assertThat(byDepartment).extracting(HistogramDTO::getGroup).containsExactly("Engineering", "HR");
+		assertThat(byDepartment.get(0).getCounts()).containsExactly(1, 1, 0);
+		assertThat(byDepartment.get(1).getCounts()).containsExactly(0, 0, 2);
+	}
+
+	@Test
+	void writeInvalidatesMemoizedResults() {
+		assertThat(analytics.percentiles(Metric.SALARY, new double[] {100}, null, null)).containsEntry("p100", 70000.0);
+		analytics.upsert(employee(1L, "Engineering", "M", "90000"));
+		assertThat(analytics.percentiles(Metric.SALARY, new double[] {100}, null, null)).containsEntry("p100", 90000.0);
+	}
+
+	@Test
+	void salaryParsingMatchesPayroll() {
+		assertThat(EmployeeAnalytics.parseSalary("50,000")).isEqualTo(50000.0);
+		assertThat(EmployeeAnalytics.parseSalary("₹ 50000")).isEqualTo(50000.0);
+		assertThat(EmployeeAnalytics.parseSalary("n/a")).isNaN();
+		assertThat(EmployeeAnalytics.parseSalary(null)).isNaN();
+	}
+
+	private static Employee employee(Long id, String department, String gender, String salary) {
+		Employee e = new Employee();
+		e.setId(id);
+		e.setDepartment(department);
+		e.setGender(gender);
+		e.setSalary(salary);
+		return e;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.ems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.ems.dto.EmployeeDTO;
+
+class EmployeeSearchIndexTests {
+
+	private EmployeeSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new EmployeeSearchIndex(null, null);
+		index.upsert(doc(1L, "Ravi Sharma", "ravi.sharma@ems.com", "Engineering", "Developer"));
+		index.upsert(doc(2L, "Priya Patel", "priya@ems.com", "HR", "Manager"));
+		index.upsert(doc(3L, "Ravindra Joshi", "rjoshi@ems.com", "Engineering", "Tester"));
+	}
+
+	@Test
+	void exactMatchRanksAbovePrefix() {
+		assertThat(ids(index.search("ravi", 10))).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void toleratesOneTypo() {
+		assertThat(ids(index.search("pirya", 10))).containsExactly(2L);
+		assertThat(ids(index.search("sharmaa", 10))).containsExactly(1L);
+	}
+
+	@Test
+	void allTokensMustMatch() {
+		assertThat(ids(index.search("engineering test", 10))).containsExactly(3L);
+	}
+
+	@Test
+	void updateAndRemoveKeepIndexConsistent() {
+		index.upsert(doc(2L, "Priya Mehta", "priya@ems.com", "Finance", "Manager"));
+		assertThat(index.search("patel", 10)).isEmpty();
+		assertThat(ids(index.search("finance", 10))).containsExactly(2L);
+
+		index.remove(2L);
+		assertThat(index.search("priya", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	private static EmployeeDTO doc(Long id, String name, String email, String department, String position) {
+		return new EmployeeDTO(id, name, department, position, email, null, null, null, null, null, null);
+	}
+
+	private static List<Long> ids(List<EmployeeDTO> results) {
+		return results.stream().map(EmployeeDTO::getId).toList();
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.ems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.ems.model.Leave;
+
+class LeaveServiceTests {
+
+	@Test
+	void daysWithinClipsToYear() {
+		Leave l = leave("2024-12-31", "2025-01-01");
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-12-31"))).isEqualTo(1);
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2025-01-01"), LocalDate.parse("2025-12-31"))).isEqualTo(1);
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-12-31"))).isZero();
+	}
+
+	@Test
+	void sharedEndDayOverlapsButNextDayDoesNot() {
+		Leave l = leave("2025-03-10", "2025-03-12");
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2025-03-12"), LocalDate.parse("2025-03-15"))).isEqualTo(1);
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2025-03-13"), LocalDate.parse("2025-03-20"))).isZero();
+	}
+
+	@Test
+	void missingEndDateIsOneDay() {
+		Leave l = leave("2025-05-05", null);
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2025-05-01"), LocalDate.parse("2025-05-31"))).isEqualTo(1);
+		assertThat(LeaveService.daysWithin(l, LocalDate.parse("2025-05-06"), LocalDate.parse("2025-05-06"))).isZero();
+	}
+
+	private static Leave leave(String from, String to) {
+		Leave l = new Leave();
+		l.setFromDate(LocalDate.parse(from));
+		l.setToDate(to == null ? null : LocalDate.parse(to));
+		return l;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.ems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PayrollServiceTests {
+
+	@Test
+	void workingDaysCountWeekdaysOnly() {
+		assertThat(PayrollService.workingDays(YearMonth.of(2025, 6))).isEqualTo(21);
+		assertThat(PayrollService.workingDays(YearMonth.of(2025, 2))).isEqualTo(20);
+		assertThat(PayrollService.workingDays(YearMonth.of(2024, 2))).isEqualTo(21);
+	}
+
+	@Test
+	void unpaidDaysSkipWeekendsAndApprovedLeave() {
+		Map<LocalDate, Double> absences = Map.of(
+				LocalDate.parse("2025-06-07"), 1.0, // Saturday
+				LocalDate.parse("2025-06-10"), 1.0,
+				LocalDate.parse("2025-06-11"), 0.5,
+				LocalDate.parse("2025-06-12"), 1.0);
+		List<LocalDate[]> leaves = List.<LocalDate[]>of(
+				new LocalDate[] {LocalDate.parse("2025-06-12"), LocalDate.parse("2025-06-13")});
+
+		assertThat(PayrollService.unpaidDays(absences, leaves)).isEqualTo(1.5);
+		assertThat(PayrollService.unpaidDays(absences, List.of())).isEqualTo(2.5);
+	}
+
+	@Test
+	void leaveWithoutEndDateCoversItsStartDay() {
+		Map<LocalDate, Double> absences = Map.of(
+				LocalDate.parse("2025-06-10"), 1.0,
+				LocalDate.parse("2025-06-11"), 1.0);
+		List<LocalDate[]> leaves = List.<LocalDate[]>of(new LocalDate[] {LocalDate.parse("2025-06-10"), null});
+
+		assertThat(PayrollService.unpaidDays(absences, leaves)).isEqualTo(1.0);
+	}
+
+	@Test
+	void computePayProratesByPaidDays() {
+		assertThat(PayrollService.computePay(new BigDecimal("42000"), 21, 1.5)).isEqualTo(39000.00);
+		assertThat(PayrollService.computePay(new BigDecimal("50000"), 20, 0)).isEqualTo(50000.00);
+		assertThat(PayrollService.computePay(new BigDecimal("10000"), 3, 1)).isEqualTo(6666.67);
+	}
+
+	@Test
+	void computePayNeverNegativeAndHandlesNoWorkingDays() {
+		assertThat(PayrollService.computePay(new BigDecimal("30000"), 20, 25)).isEqualTo(0.0);
+		assertThat(PayrollService.computePay(new BigDecimal("1234.567"), 0, 0)).isEqualTo(1234.57);
+	}
+}
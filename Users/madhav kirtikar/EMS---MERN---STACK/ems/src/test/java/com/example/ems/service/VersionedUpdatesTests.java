@@ -0,0 +1,73 @@
+package com.example.ems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.ems.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class VersionedUpdatesTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final VersionedUpdates updates = new VersionedUpdates(objectMapper);
+
+	private JpaRepository<Event, Long> repo;
+	private Event current;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		repo = mock(JpaRepository.class);
+		current = new Event();
+		current.setId(1L);
+		current.setVersion(3L);
+		current.setTitle("Diwali");
+		when(repo.findById(1L)).thenReturn(Optional.of(current));
+		when(repo.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void staleBodyVersionWithoutIfMatchIsConflict() {
+		assertThatThrownBy(() -> updates.apply(repo, 1L, null, 2L, e -> e.setTitle("Holi")))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+		assertThat(current.getTitle()).isEqualTo("Diwali");
+		verify(repo, never()).saveAndFlush(any());
+	}
+
+	@Test
+	void staleVersionInPatchBodyIsConflict() {
+		assertThatThrownBy(() -> updates.patch(repo, 1L, null,
+				objectMapper.readTree("{\"version\": 2, \"title\": \"Holi\"}")))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+		assertThat(current.getTitle()).isEqualTo("Diwali");
+	}
+
+	@Test
+	void currentOrMissingBodyVersionIsApplied() {
+		assertThat(updates.apply(repo, 1L, null, 3L, e -> e.setTitle("Holi")).getTitle()).isEqualTo("Holi");
+		assertThat(updates.apply(repo, 1L, null, null, e -> e.setTitle("Eid")).getTitle()).isEqualTo("Eid");
+	}
+
+	@Test
+	void ifMatchIsCheckedInsteadOfBodyVersion() {
+		assertThat(updates.apply(repo, 1L, "\"3\"", 2L, e -> e.setTitle("Holi")).getTitle()).isEqualTo("Holi");
+		assertThatThrownBy(() -> updates.apply(repo, 1L, "\"2\"", 3L, e -> e.setTitle("Eid")))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.ems.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ETagsTests {
+
+	@Test
+	void versionBecomesStrongTag() {
+		assertThat(ETags.of(3L)).isEqualTo("\"3\"");
+		assertThat(ETags.of(null)).isEqualTo("\"0\"");
+	}
+
+	@Test
+	void missingOrStarIfMatchPasses() {
+		assertThatCode(() -> ETags.checkIfMatch(null, 3L)).doesNotThrowAnyException();
+		assertThatCode(() -> ETags.checkIfMatch(" ", 3L)).doesNotThrowAnyException();
+		assertThatCode(() -> ETags.checkIfMatch(" * ", 3L)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void anyTagInListMayMatch() {
+		assertThatCode(() -> ETags.checkIfMatch("\"2\", \"3\"", 3L)).doesNotThrowAnyException();
+		assertThatCode(() -> ETags.checkIfMatch("\"3\",\"4\"", 3L)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void weakTagNeverMatches() {
+		assertPreconditionFailed("W/\"3\"", 3L);
+		assertPreconditionFailed("W/\"3\", \"2\"", 3L);
+	}
+
+	@Test
+	void staleTagIsPreconditionFailed() {
+		assertPreconditionFailed("\"2\"", 3L);
+		assertPreconditionFailed("\"1\", \"2\"", 3L);
+	}
+
+	private static void assertPreconditionFailed(String ifMatch, Long currentVersion) {
+		assertThatThrownBy(() -> ETags.checkIfMatch(ifMatch, currentVersion))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+	}
+}
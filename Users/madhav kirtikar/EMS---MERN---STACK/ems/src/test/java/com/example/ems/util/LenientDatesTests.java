@@ -0,0 +1,26 @@
+package com.example.ems.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+class LenientDatesTests {
+
+	@Test
+	void bareMonthNameIsLatestOccurrenceNotAfterReference() {
+		YearMonth january = YearMonth.of(2026, 1);
+		assertThat(LenientDates.parseYearMonth("December", january)).isEqualTo(YearMonth.of(2025, 12));
+		assertThat(LenientDates.parseYearMonth("jan", january)).isEqualTo(YearMonth.of(2026, 1));
+		assertThat(LenientDates.parseYearMonth("June", YearMonth.of(2025, 7))).isEqualTo(YearMonth.of(2025, 6));
+	}
+
+	@Test
+	void explicitYearIsKept() {
+		YearMonth january = YearMonth.of(2026, 1);
+		assertThat(LenientDates.parseYearMonth("2026-12", january)).isEqualTo(YearMonth.of(2026, 12));
+		assertThat(LenientDates.parseYearMonth("December 2026", january)).isEqualTo(YearMonth.of(2026, 12));
+		assertThat(LenientDates.parseYearMonth("Smarch", january)).isNull();
+	}
+}